@@ -6,6 +6,7 @@ import com.badlogic.gdx.Input;
 
 // IMPORTS
 import io.github.some_example_name.engine.io.IOManager;
+import io.github.some_example_name.engine.io.OutputManager;
 import io.github.some_example_name.tests.TestEntity;
 
 public class GameMaster extends Game {
@@ -13,12 +14,44 @@ public class GameMaster extends Game {
     // We add a test object here so we can see if rendering works
     private TestEntity testObject;
 
+    // Optional input session (local file paths), set by the launcher
+    private final String recordPath;
+    private final String replayPath;
+
+    public GameMaster() {
+        this(null, null);
+    }
+
+    /**
+     * @param recordPath Record this session's input to this file, or null
+     * @param replayPath Play this input recording instead of live input, or null
+     */
+    public GameMaster(String recordPath, String replayPath) {
+        if (recordPath != null && replayPath != null) {
+            throw new IllegalArgumentException("Cannot record and replay input at the same time.");
+        }
+        this.recordPath = recordPath;
+        this.replayPath = replayPath;
+    }
+
     @Override
     public void create() {
-        // 1. Initialize the Engine Hub
-        IOManager.getInstance().init();
+        // 1. Initialize the Engine Hub (a headless launcher has already
+        // switched it to no-op output)
+        IOManager io = IOManager.getInstance();
+        if (!io.isHeadless()) {
+            io.init();
+        }
         System.out.println("IOManager Online. Systems Check Initiated...");
 
+        if (replayPath != null) {
+            io.getDynamicInput().startReplay(Gdx.files.local(replayPath));
+            System.out.println("[INPUT] Replaying " + replayPath);
+        } else if (recordPath != null) {
+            io.getDynamicInput().startRecording(Gdx.files.local(recordPath));
+            System.out.println("[INPUT] Recording to " + recordPath);
+        }
+
         // 2. Create a dummy object to test the OutputManager
         testObject = new TestEntity(200, 200);
 
@@ -33,7 +66,16 @@ public class GameMaster extends Game {
     @Override
     public void render() {
         // --- LOGIC PHASE (Testing InputManager) ---
-        float dt = Gdx.graphics.getDeltaTime();
+        // Snapshot this frame's key state before anything reads it
+        // (during an input replay this also hands back the recorded delta)
+        float dt = IOManager.getInstance().getDynamicInput().update(Gdx.graphics.getDeltaTime());
+
+        // Let background loading progress (sounds play once loaded), then
+        // advance audio; positional sounds are heard from the camera centre
+        IOManager.getInstance().getAssets().update();
+        OutputManager output = IOManager.getInstance().getOutputManager();
+        IOManager.getInstance().getAudio().setListenerPosition(output.getViewCenterX(), output.getViewCenterY());
+        IOManager.getInstance().getAudio().update(dt);
 
         // We use OUR DynamicInput, not Gdx.input directly!
         if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.LEFT)) {
@@ -49,17 +91,18 @@ public class GameMaster extends Game {
             testObject.getPosition().y -= 200 * dt;
         }
 
-        // Test Mouse Input (Hardware Check)
-        if (Gdx.input.justTouched()) {
+        // Test Mouse Input (from the snapshot, so replays see recorded clicks)
+        if (IOManager.getInstance().getDynamicInput().isJustTouched()) {
             System.out.println("[MOUSE] Click detected at: " +
                     IOManager.getInstance().getDynamicInput().getMousePosition());
         }
 
         // AUDIO TEST
-        // We use isKeyJustPressed so it doesn't machine-gun the sound 60 times a second
+        // We use isKeyJustPressed so it only fires on the frame SPACE goes down
         if (IOManager.getInstance().getDynamicInput().isKeyJustPressed(Input.Keys.SPACE)) {
             System.out.println("[AUDIO] Attempting to play 'test.mp3'...");
-            IOManager.getInstance().getAudio().playSound("test.mp3");
+            IOManager.getInstance().getAudio().playSoundAt("test.mp3",
+                    testObject.getPosition().x, testObject.getPosition().y, 1f);
         }
 
         // --- RENDER PHASE (Testing OutputManager) ---
@@ -0,0 +1,109 @@
+package io.github.some_example_name.engine.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Immutable frame sequence, shared by every entity that plays it.
+ *
+ * Holds only what is the same for all players (frames, timing, play mode);
+ * where each entity is in the sequence lives in the Animator.
+ */
+public final class AnimationDef {
+
+    public enum PlayMode {
+        LOOP,
+        ONCE,           // Holds the last frame when done
+        PING_PONG
+    }
+
+    private final int id;
+    private final String name;
+    private final TextureRegion[] frames;
+    private final float frameDuration;
+    private final PlayMode playMode;
+    private final float duration;           // One pass through the frames
+    private final float wrapPeriod;         // Time after which playback repeats, 0 = never
+
+    AnimationDef(int id, String name, TextureRegion[] frames, float frameDuration, PlayMode playMode) {
+        this.id = id;
+        this.name = name;
+        this.frames = frames.clone();
+        this.frameDuration = frameDuration;
+        this.playMode = playMode;
+        this.duration = frames.length * frameDuration;
+        if (playMode == PlayMode.LOOP) {
+            this.wrapPeriod = duration;
+        } else if (playMode == PlayMode.PING_PONG && frames.length > 1) {
+            this.wrapPeriod = (frames.length - 1) * 2 * frameDuration;
+        } else {
+            this.wrapPeriod = 0f;
+        }
+    }
+
+    /**
+     * Frame index for a playback time (no allocation)
+     */
+    public int frameIndexAt(float elapsed) {
+        int last = frames.length - 1;
+        if (last == 0) {
+            return 0;
+        }
+        // floor/floorMod so negative times (reverse playback) stay in range
+        int step = (int) Math.floor(elapsed / frameDuration);
+        switch (playMode) {
+            case LOOP:
+                return Math.floorMod(step, frames.length);
+            case PING_PONG:
+                // 0,1,..,last,last-1,..,1 then repeat
+                int period = last * 2;
+                int phase = Math.floorMod(step, period);
+                return phase <= last ? phase : period - phase;
+            case ONCE:
+            default:
+                return Math.max(0, Math.min(step, last));
+        }
+    }
+
+    /**
+     * @return Whether a ONCE animation has reached its end at this time
+     */
+    public boolean isFinishedAt(float elapsed) {
+        return playMode == PlayMode.ONCE && elapsed >= duration;
+    }
+
+    /**
+     * @return Period after which playback repeats exactly (0 for ONCE), so
+     *         playback time can be wrapped instead of growing forever
+     */
+    public float getWrapPeriod() {
+        return wrapPeriod;
+    }
+
+    public TextureRegion getFrame(int index) {
+        return frames[index];
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    public PlayMode getPlayMode() {
+        return playMode;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+}
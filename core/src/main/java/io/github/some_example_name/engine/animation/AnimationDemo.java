@@ -0,0 +1,144 @@
+package io.github.some_example_name.engine.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import io.github.some_example_name.engine.entity.NPCEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark: 10k animated NPCs through the shared Animator versus each
+ * NPC owning its own frame array and timer object.
+ *
+ * Both sides advance every animation and then look up every current frame
+ * (what drawEntity does), once per simulated frame. In the per-NPC version
+ * the animation hangs off each entity, as it would on a GameEntity, so it
+ * is reached through the entity and allocated alongside it.
+ */
+public class AnimationDemo {
+
+    private static final int NPC_COUNT = 10_000;
+    private static final int WARMUP_FRAMES = 500;
+    private static final int MEASURED_FRAMES = 2_000;
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Animation Benchmark (" + NPC_COUNT + " NPCs) ===\n");
+
+        TextureRegion[] walk = regions(8);
+        TextureRegion[] idle = regions(4);
+        TextureRegion[] attack = regions(6);
+
+        // Shared definitions + primitive playback
+        AnimationLibrary library = new AnimationLibrary();
+        int[] ids = {
+            library.define("walk", walk, 0.1f, AnimationDef.PlayMode.LOOP),
+            library.define("idle", idle, 0.25f, AnimationDef.PlayMode.PING_PONG),
+            library.define("attack", attack, 0.08f, AnimationDef.PlayMode.ONCE)
+        };
+        Animator animator = new Animator(library);
+        int[] handles = new int[NPC_COUNT];
+        for (int i = 0; i < NPC_COUNT; i++) {
+            handles[i] = animator.create(ids[i % ids.length]);
+            animator.setSpeed(handles[i], 0.5f + (i % 7) * 0.25f);
+        }
+
+        // One object graph per NPC
+        List<AnimatedNpc> own = new ArrayList<>(NPC_COUNT);
+        TextureRegion[][] sets = {walk, idle, attack};
+        float[] durations = {0.1f, 0.25f, 0.08f};
+        for (int i = 0; i < NPC_COUNT; i++) {
+            own.add(new AnimatedNpc(i, new OwnAnimation(sets[i % 3], durations[i % 3], 0.5f + (i % 7) * 0.25f)));
+        }
+
+        int sink = 0;
+        for (int f = 0; f < WARMUP_FRAMES; f++) {
+            sink += sharedFrame(animator, handles) + ownFrame(own);
+        }
+
+        long start = System.nanoTime();
+        for (int f = 0; f < MEASURED_FRAMES; f++) {
+            sink += sharedFrame(animator, handles);
+        }
+        double sharedMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+        start = System.nanoTime();
+        for (int f = 0; f < MEASURED_FRAMES; f++) {
+            sink += ownFrame(own);
+        }
+        double ownMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+        System.out.printf("Shared Animator:      %.3f ms/frame%n", sharedMs);
+        System.out.printf("Per-NPC animation:    %.3f ms/frame%n", ownMs);
+        System.out.printf("Speed-up:             %.2fx%n", ownMs / sharedMs);
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static int sharedFrame(Animator animator, int[] handles) {
+        animator.update(FRAME_DELTA);
+        int hash = 0;
+        for (int i = 0; i < handles.length; i++) {
+            hash += System.identityHashCode(animator.getFrame(handles[i])) & 1;
+        }
+        return hash;
+    }
+
+    private static int ownFrame(List<AnimatedNpc> own) {
+        int hash = 0;
+        for (int i = 0; i < own.size(); i++) {
+            OwnAnimation animation = own.get(i).animation;
+            animation.update(FRAME_DELTA);
+            hash += System.identityHashCode(animation.current()) & 1;
+        }
+        return hash;
+    }
+
+    private static TextureRegion[] regions(int count) {
+        TextureRegion[] frames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = new TextureRegion();
+        }
+        return frames;
+    }
+
+    /**
+     * Stand-in for an NPC entity with its usual per-entity state
+     */
+    private static final class AnimatedNpc extends NPCEntity {
+        private final OwnAnimation animation;
+
+        AnimatedNpc(int index, OwnAnimation animation) {
+            super("Animated", index, index);
+            this.animation = animation;
+        }
+    }
+
+    /**
+     * The "before" shape: every NPC copies the frames and keeps its own timer
+     */
+    private static final class OwnAnimation {
+        private final TextureRegion[] frames;
+        private final float frameDuration;
+        private final float speed;
+        private final Timer timer = new Timer();
+
+        OwnAnimation(TextureRegion[] frames, float frameDuration, float speed) {
+            this.frames = frames.clone();
+            this.frameDuration = frameDuration;
+            this.speed = speed;
+        }
+
+        void update(float deltaTime) {
+            timer.elapsed += deltaTime * speed;
+        }
+
+        TextureRegion current() {
+            return frames[(int) (timer.elapsed / frameDuration) % frames.length];
+        }
+    }
+
+    private static final class Timer {
+        float elapsed;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.some_example_name.engine.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of shared animation definitions.
+ *
+ * Definitions get small integer ids so playback state can refer to them
+ * with an int instead of an object reference. Look names up once (at
+ * spawn), then pass ids around.
+ */
+public class AnimationLibrary {
+
+    private final List<AnimationDef> defs = new ArrayList<>();
+    private final Map<String, AnimationDef> byName = new HashMap<>();
+
+    /**
+     * Register a frame sequence
+     *
+     * @param frames Frames in order (from the shared atlas); the array is copied
+     * @param frameDuration Seconds each frame is shown
+     * @return The definition's id
+     */
+    public int define(String name, TextureRegion[] frames, float frameDuration, AnimationDef.PlayMode playMode) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Animation name cannot be null or empty");
+        }
+        if (frames == null || frames.length == 0) {
+            throw new IllegalArgumentException("Animation '" + name + "' needs at least one frame");
+        }
+        if (!(frameDuration > 0f)) {
+            throw new IllegalArgumentException("Frame duration must be > 0");
+        }
+        if (playMode == null) {
+            throw new IllegalArgumentException("Play mode cannot be null");
+        }
+        if (byName.containsKey(name)) {
+            throw new IllegalArgumentException("Animation already defined: " + name);
+        }
+
+        AnimationDef def = new AnimationDef(defs.size(), name, frames, frameDuration, playMode);
+        defs.add(def);
+        byName.put(name, def);
+        return def.getId();
+    }
+
+    public AnimationDef get(int id) {
+        return defs.get(id);
+    }
+
+    /**
+     * @return Id of the named animation, or -1 if it isn't defined
+     */
+    public int idOf(String name) {
+        AnimationDef def = byName.get(name);
+        return def != null ? def.getId() : -1;
+    }
+
+    public int size() {
+        return defs.size();
+    }
+}
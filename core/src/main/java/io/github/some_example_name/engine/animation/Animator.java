@@ -0,0 +1,240 @@
+package io.github.some_example_name.engine.animation;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+/**
+ * Playback state for every animated entity, advanced in one loop.
+ *
+ * Each player is a handful of primitives (definition id, elapsed time,
+ * speed, resolved frame) stored in parallel arrays, packed densely so
+ * update() walks them front to back. Entities keep an int handle; a
+ * handle table maps it to the dense slot, so releasing a player can
+ * swap-remove without invalidating anyone else's handle.
+ */
+public class Animator {
+
+    private final AnimationLibrary library;
+
+    // Dense playback records (index < count are live)
+    private int[] defIds;
+    private float[] elapsed;
+    private float[] speed;
+    private int[] frame;
+    private TextureRegion[] current;        // Resolved frame, so drawing is one array read
+    private int[] handleOfSlot;
+    private int count;
+
+    // Handle -> dense slot (-1 = free), plus a stack of free handles
+    private int[] slotOfHandle;
+    private int[] freeHandles;
+    private int freeCount;
+    private int handleLimit;
+
+    // Definitions by id, refreshed when the library grows
+    private AnimationDef[] defs = new AnimationDef[0];
+
+    public Animator(AnimationLibrary library) {
+        this(library, 64);
+    }
+
+    public Animator(AnimationLibrary library, int initialCapacity) {
+        if (library == null) {
+            throw new IllegalArgumentException("Animation library cannot be null");
+        }
+        int capacity = Math.max(1, initialCapacity);
+        this.library = library;
+        this.defIds = new int[capacity];
+        this.elapsed = new float[capacity];
+        this.speed = new float[capacity];
+        this.frame = new int[capacity];
+        this.current = new TextureRegion[capacity];
+        this.handleOfSlot = new int[capacity];
+        this.slotOfHandle = new int[capacity];
+        this.freeHandles = new int[capacity];
+    }
+
+    // --- PLAYERS ---
+
+    /**
+     * Start playing an animation for a new entity
+     *
+     * @return Handle to keep on the entity (see GameEntity.getAnimationHandle)
+     */
+    public int create(int defId) {
+        AnimationDef def = def(defId);
+        if (count == defIds.length) {
+            grow();
+        }
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : handleLimit++;
+        int slot = count++;
+        slotOfHandle[handle] = slot;
+        handleOfSlot[slot] = handle;
+        defIds[slot] = def.getId();
+        elapsed[slot] = 0f;
+        speed[slot] = 1f;
+        frame[slot] = 0;
+        current[slot] = def.getFrame(0);
+        return handle;
+    }
+
+    /**
+     * Stop tracking a player; the handle may be reused by a later create()
+     */
+    public void release(int handle) {
+        int slot = slot(handle);
+        int last = --count;
+        if (slot != last) {
+            defIds[slot] = defIds[last];
+            elapsed[slot] = elapsed[last];
+            speed[slot] = speed[last];
+            frame[slot] = frame[last];
+            current[slot] = current[last];
+            handleOfSlot[slot] = handleOfSlot[last];
+            slotOfHandle[handleOfSlot[slot]] = slot;
+        }
+        current[last] = null;
+        slotOfHandle[handle] = -1;
+        freeHandles[freeCount++] = handle;
+    }
+
+    /**
+     * Switch to another animation from its first frame. Playing the one
+     * already running does nothing, so this is safe to call every frame.
+     */
+    public void play(int handle, int defId) {
+        int slot = slot(handle);
+        if (defIds[slot] != defId) {
+            AnimationDef def = def(defId);
+            defIds[slot] = def.getId();
+            elapsed[slot] = 0f;
+            frame[slot] = 0;
+            current[slot] = def.getFrame(0);
+        }
+    }
+
+    public void restart(int handle) {
+        int slot = slot(handle);
+        elapsed[slot] = 0f;
+        frame[slot] = 0;
+        current[slot] = definitions()[defIds[slot]].getFrame(0);
+    }
+
+    /**
+     * @param multiplier Playback rate (1 = normal, 0 = paused, negative = backwards;
+     *                   ONCE animations stop at their first frame)
+     */
+    public void setSpeed(int handle, float multiplier) {
+        speed[slot(handle)] = multiplier;
+    }
+
+    // --- UPDATE ---
+
+    /**
+     * Advance every player and resolve its current frame
+     */
+    public void update(float deltaTime) {
+        AnimationDef[] table = definitions();
+        for (int i = 0; i < count; i++) {
+            AnimationDef def = table[defIds[i]];
+            float t = elapsed[i] + deltaTime * speed[i];
+            float wrap = def.getWrapPeriod();
+            if (wrap > 0f) {
+                if (t >= wrap || t < 0f) {
+                    // Negative speeds run backwards, so wrap from below as well
+                    t = ((t % wrap) + wrap) % wrap;
+                    if (t >= wrap) {
+                        t = 0f;             // float rounding of a tiny negative t
+                    }
+                }
+            } else if (t > def.getDuration()) {
+                t = def.getDuration();
+            } else if (t < 0f) {
+                t = 0f;
+            }
+            elapsed[i] = t;
+            int index = def.frameIndexAt(t);
+            if (index != frame[i]) {
+                frame[i] = index;
+                current[i] = def.getFrame(index);
+            }
+        }
+    }
+
+    // --- QUERIES ---
+
+    /**
+     * Current frame for a handle, as resolved by the last update() (no allocation)
+     */
+    public TextureRegion getFrame(int handle) {
+        return current[slot(handle)];
+    }
+
+    public int getAnimation(int handle) {
+        return defIds[slot(handle)];
+    }
+
+    public float getElapsed(int handle) {
+        return elapsed[slot(handle)];
+    }
+
+    /**
+     * @return Whether a ONCE animation has played through
+     */
+    public boolean isFinished(int handle) {
+        int slot = slot(handle);
+        return definitions()[defIds[slot]].isFinishedAt(elapsed[slot]);
+    }
+
+    public boolean isValid(int handle) {
+        return handle >= 0 && handle < handleLimit && slotOfHandle[handle] >= 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public AnimationLibrary getLibrary() {
+        return library;
+    }
+
+    // --- INTERNALS ---
+
+    private int slot(int handle) {
+        if (!isValid(handle)) {
+            throw new IllegalArgumentException("Invalid animation handle: " + handle);
+        }
+        return slotOfHandle[handle];
+    }
+
+    private AnimationDef def(int defId) {
+        if (defId < 0 || defId >= library.size()) {
+            throw new IllegalArgumentException("Unknown animation id: " + defId);
+        }
+        return library.get(defId);
+    }
+
+    private AnimationDef[] definitions() {
+        if (defs.length != library.size()) {
+            AnimationDef[] table = new AnimationDef[library.size()];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = library.get(i);
+            }
+            defs = table;
+        }
+        return defs;
+    }
+
+    private void grow() {
+        int capacity = defIds.length * 2;
+        defIds = Arrays.copyOf(defIds, capacity);
+        elapsed = Arrays.copyOf(elapsed, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        frame = Arrays.copyOf(frame, capacity);
+        current = Arrays.copyOf(current, capacity);
+        handleOfSlot = Arrays.copyOf(handleOfSlot, capacity);
+        slotOfHandle = Arrays.copyOf(slotOfHandle, capacity);
+        freeHandles = Arrays.copyOf(freeHandles, capacity);
+    }
+}
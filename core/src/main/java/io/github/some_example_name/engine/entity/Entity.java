@@ -19,6 +19,11 @@ public abstract class Entity {
     private float velocityY;            // Velocity in Y direction
     private boolean active;             // Whether this entity is active/alive
 
+    // Update LOD bookkeeping (EntityManager only)
+    float lodDeltaTime;                 // Time skipped, handed back on the next update
+    int lodCountdown;                   // Frames until the next update
+    int lodBand;                        // Cached UpdateLod.Band ordinal
+
     // TODO: Add constructor here
 
     // Create a new entity at the origin (0,0).
@@ -16,11 +16,13 @@ public class EntityManager implements IEntityManager {
   // ===== ATTRIBUTES =====
   private final Map<UUID, Entity> entities;
   private final List<UUID> pendingRemoval;
+  private UpdateLod updateLod;        // Optional, null = update everything every frame
 
   // ===== CONSTRUCTOR =====
   public EntityManager() {
     this.entities = new HashMap<>();
     this.pendingRemoval = new ArrayList<>();
+    this.updateLod = null;
   }
 
     // TODO: Implement create() method
@@ -57,11 +59,15 @@ public class EntityManager implements IEntityManager {
     // TODO: Implement update() method
     @Override
     public void update(float deltaTime) {
-      // Update all active entities
-      for (Entity entity: entities.values()) {
-        if (entity.isActive()) {
-          entity.update(deltaTime);
+      if (updateLod == null) {
+        // Update all active entities
+        for (Entity entity: entities.values()) {
+          if (entity.isActive()) {
+            entity.update(deltaTime);
+          }
         }
+      } else {
+        updateWithLod(deltaTime);
       }
 
       // Process pending removals (safe - after iteration)
@@ -73,6 +79,64 @@ public class EntityManager implements IEntityManager {
       }
     }
 
+    /**
+     * Updates distant entities less often, handing them the skipped time.
+     * An entity is only re-classified when it updates, so skipping one costs
+     * a countdown decrement. Entities changing band are staggered by id so a
+     * band's updates spread evenly over frames.
+     */
+    private void updateWithLod(float deltaTime) {
+      updateLod.beginFrame();
+
+      for (Entity entity: entities.values()) {
+        if (!entity.isActive()) {
+          continue;
+        }
+
+        if (--entity.lodCountdown > 0) {
+          entity.lodDeltaTime += deltaTime;
+          updateLod.countBand(entity.lodBand);
+          continue;
+        }
+
+        float dt = entity.lodDeltaTime + deltaTime;
+        entity.lodDeltaTime = 0f;
+        entity.update(dt);
+        updateLod.countUpdated();
+
+        int previousInterval = updateLod.intervalOf(entity.lodBand);
+        int band = updateLod.bandOf(entity.getPositionX(), entity.getPositionY());
+        int interval = updateLod.intervalOf(band);
+        if (interval != previousInterval) {
+          int phase = entity.getId().hashCode() & 0x7fffffff;
+          entity.lodCountdown = 1 + phase % interval;
+        } else {
+          entity.lodCountdown = interval;
+        }
+        entity.lodBand = band;
+        updateLod.countBand(band);
+      }
+    }
+
+    /**
+     * Enables distance-based update LOD (pass null to update everything every frame)
+     */
+    public void setUpdateLod(UpdateLod updateLod) {
+      if (updateLod == null) {
+        // Don't let skipped time leak into the next LOD session
+        for (Entity entity: entities.values()) {
+          entity.lodDeltaTime = 0f;
+          entity.lodCountdown = 0;
+          entity.lodBand = 0;
+        }
+      }
+      this.updateLod = updateLod;
+    }
+
+    public UpdateLod getUpdateLod() {
+      return updateLod;
+    }
+
     // TODO: Implement getAll() method
     @Override
     public Collection<Entity> getAll() {
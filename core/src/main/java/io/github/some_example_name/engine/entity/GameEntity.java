@@ -13,4 +13,10 @@ public abstract class GameEntity {
     public abstract float getWidth();
 
     public abstract float getHeight();
+
+    // Animated entities return their handle in the OutputManager's Animator;
+    // the renderer then draws the current frame instead of getTexture().
+    public int getAnimationHandle() {
+        return -1;
+    }
 }
\ No newline at end of file
@@ -8,6 +8,10 @@ package io.github.some_example_name.engine.entity;
  */
 
 public class NPCEntity extends Entity {
+
+  // Friction: 2% of the speed lost every 1/60 s, as a continuous decay rate
+  // (per second) so it does not depend on how often update() is called
+  private static final double FRICTION_RATE = -Math.log(0.98) * 60.0;
   
   // ===== ATTRIBUTES =====
   private String type;
@@ -39,12 +43,12 @@ public class NPCEntity extends Entity {
 
     // Only update if AI is enabled and entity is active
     if (aiEnabled && isActive()) {
-      // Apply movement
-      applyMovement(deltaTime);
-
-      // Simple friction effect (slows down over time)
-      float friction = 0.98f;
-      setVelocity(getVelocityX() * friction, getVelocityY() * friction);
+      // Move by the exact distance covered while slowing down, so one long
+      // update (e.g. a far entity under update LOD) ends up where several
+      // short ones would
+      double decay = Math.exp(-FRICTION_RATE * deltaTime);
+      applyMovement((float) ((1.0 - decay) / FRICTION_RATE));
+      setVelocity((float) (getVelocityX() * decay), (float) (getVelocityY() * decay));
     }
   }
 
@@ -0,0 +1,180 @@
+package io.github.some_example_name.engine.entity;
+
+/**
+ * Distance-based update level-of-detail.
+ *
+ * Classifies positions into NEAR / MID / FAR bands by their distance to the
+ * closest focus point (player, camera, ...). EntityManager updates NEAR
+ * entities every frame and MID / FAR entities every N frames, passing them
+ * the time they skipped so their simulated motion stays consistent.
+ *
+ * Focus points are plain coordinates - call setFocus() each frame with the
+ * current player / camera position. With no focus points everything is NEAR.
+ */
+public class UpdateLod {
+
+  public enum Band { NEAR, MID, FAR }
+
+  private static final int MAX_FOCUS_POINTS = 8;
+  private static final Band[] BANDS = Band.values();
+  private static final int NEAR = 0;
+  private static final int MID = 1;
+  private static final int FAR = 2;
+
+  // ===== ATTRIBUTES =====
+  private final float[] focusX;
+  private final float[] focusY;
+  private int focusCount;
+
+  private float nearRadiusSq;
+  private float midRadiusSq;
+  private final int[] intervals;       // Frames between updates, by band
+
+  // ===== COUNTERS (last frame) =====
+  private final int[] bandCounts;
+  private int updatedCount;
+
+  // ===== CONSTRUCTOR =====
+
+  /**
+   * @param nearRadius Entities closer than this update every frame
+   * @param midRadius Entities closer than this (but not near) update every midInterval frames
+   * @param midInterval Frames between MID updates (>= 1)
+   * @param farInterval Frames between FAR updates (>= 1)
+   */
+  public UpdateLod(float nearRadius, float midRadius, int midInterval, int farInterval) {
+    this.focusX = new float[MAX_FOCUS_POINTS];
+    this.focusY = new float[MAX_FOCUS_POINTS];
+    this.focusCount = 0;
+    this.intervals = new int[] { 1, 1, 1 };
+    this.bandCounts = new int[3];
+    setRadii(nearRadius, midRadius);
+    setIntervals(midInterval, farInterval);
+  }
+
+  // ===== FOCUS POINTS =====
+
+  /**
+   * Adds a focus point
+   *
+   * @return Index to pass to setFocus() when the point moves
+   */
+  public int addFocus(float x, float y) {
+    if (focusCount == MAX_FOCUS_POINTS) {
+      throw new IllegalStateException("Too many focus points (max " + MAX_FOCUS_POINTS + ")");
+    }
+    focusX[focusCount] = x;
+    focusY[focusCount] = y;
+    return focusCount++;
+  }
+
+  public void setFocus(int index, float x, float y) {
+    if (index < 0 || index >= focusCount) {
+      throw new IndexOutOfBoundsException("No focus point at index " + index);
+    }
+    focusX[index] = x;
+    focusY[index] = y;
+  }
+
+  public void clearFocus() {
+    focusCount = 0;
+  }
+
+  public int getFocusCount() {
+    return focusCount;
+  }
+
+  // ===== CLASSIFICATION =====
+
+  /**
+   * Classifies a position by its distance to the closest focus point
+   */
+  public Band classify(float x, float y) {
+    return BANDS[bandOf(x, y)];
+  }
+
+  // ===== BAND LOOKUPS (used by EntityManager) =====
+
+  int bandOf(float x, float y) {
+    float distSq = closestFocusDistanceSq(x, y);
+    if (distSq <= nearRadiusSq) return NEAR;
+    if (distSq <= midRadiusSq) return MID;
+    return FAR;
+  }
+
+  int intervalOf(int band) {
+    return intervals[band];
+  }
+
+  private float closestFocusDistanceSq(float x, float y) {
+    if (focusCount == 0) {
+      return 0f;
+    }
+    float best = Float.MAX_VALUE;
+    for (int i = 0; i < focusCount; i++) {
+      float dx = x - focusX[i];
+      float dy = y - focusY[i];
+      float d = dx * dx + dy * dy;
+      if (d < best) {
+        best = d;
+      }
+    }
+    return best;
+  }
+
+  // ===== FRAME BOOKKEEPING (called by EntityManager) =====
+
+  void beginFrame() {
+    bandCounts[NEAR] = 0;
+    bandCounts[MID] = 0;
+    bandCounts[FAR] = 0;
+    updatedCount = 0;
+  }
+
+  void countBand(int band) {
+    bandCounts[band]++;
+  }
+
+  void countUpdated() {
+    updatedCount++;
+  }
+
+  // ===== CONFIGURATION =====
+
+  public void setRadii(float nearRadius, float midRadius) {
+    if (nearRadius < 0f || midRadius < nearRadius) {
+      throw new IllegalArgumentException("Radii must satisfy 0 <= near <= mid");
+    }
+    this.nearRadiusSq = nearRadius * nearRadius;
+    this.midRadiusSq = midRadius * midRadius;
+  }
+
+  public void setIntervals(int midInterval, int farInterval) {
+    if (midInterval < 1 || farInterval < 1) {
+      throw new IllegalArgumentException("Update intervals must be >= 1");
+    }
+    intervals[MID] = midInterval;
+    intervals[FAR] = farInterval;
+  }
+
+  // ===== GETTERS =====
+
+  public int getNearCount() {
+    return bandCounts[NEAR];
+  }
+
+  public int getMidCount() {
+    return bandCounts[MID];
+  }
+
+  public int getFarCount() {
+    return bandCounts[FAR];
+  }
+
+  /**
+   * @return Number of entities actually updated last frame
+   */
+  public int getUpdatedCount() {
+    return updatedCount;
+  }
+}
@@ -0,0 +1,162 @@
+package io.github.some_example_name.engine.entity;
+
+import java.util.Random;
+
+/**
+ * Benchmark for distance-based update LOD.
+ *
+ * Spreads 100k NPCs over a large world, parks a focus point in the middle
+ * and compares average EntityManager.update() time with and without LOD.
+ *
+ * Runs twice: plain NPCEntity (update is a few multiplies, so walking the
+ * entities dominates and LOD cannot win) and an NPC doing steering work
+ * each update (where skipping distant updates pays off).
+ *
+ * First checks that LOD does not change where plain NPCs end up: the same
+ * NPCs are stepped with and without LOD, and every NPC that updated on the
+ * last frame must be where its full-rate twin is.
+ */
+
+public class UpdateLodDemo {
+
+  private static final int ENTITY_COUNT = 100_000;
+  private static final float WORLD_SIZE = 20_000f;
+  private static final int WARMUP_FRAMES = 200;
+  private static final int MEASURED_FRAMES = 500;
+  private static final float FRAME_DELTA = 1f / 60f;
+  private static final int CHECK_FRAMES = 240;
+  private static final float CHECK_TOLERANCE = 0.5f;
+
+  public static void main(String[] args) {
+    System.out.println("=== Update LOD Benchmark (" + ENTITY_COUNT + " entities) ===\n");
+
+    System.out.println("--- Motion with vs. without LOD ---");
+    checkConsistency();
+    System.out.println();
+
+    System.out.println("--- Plain NPCEntity ---");
+    run(false);
+    System.out.println();
+
+    System.out.println("--- Steering NPC ---");
+    run(true);
+  }
+
+  private static void run(boolean steering) {
+    EntityManager manager = new EntityManager();
+    Random random = new Random(42);
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      float x = random.nextFloat() * WORLD_SIZE;
+      float y = random.nextFloat() * WORLD_SIZE;
+      NPCEntity npc = steering ? new SteeringNpc(x, y) : new NPCEntity("Wanderer", x, y);
+      npc.setVelocity(random.nextFloat() * 100f - 50f, random.nextFloat() * 100f - 50f);
+      manager.create(npc);
+    }
+
+    double withoutLod = measure(manager);
+    System.out.printf("Without LOD: %.3f ms/frame%n", withoutLod);
+
+    UpdateLod lod = new UpdateLod(800f, 2500f, 4, 16);
+    lod.addFocus(WORLD_SIZE / 2, WORLD_SIZE / 2);
+    manager.setUpdateLod(lod);
+
+    double withLod = measure(manager);
+    System.out.printf("With LOD:    %.3f ms/frame%n", withLod);
+    System.out.println("Bands: near=" + lod.getNearCount() + " mid=" + lod.getMidCount()
+        + " far=" + lod.getFarCount() + " (updated " + lod.getUpdatedCount() + ")");
+    System.out.printf("Speed-up:    %.2fx%n", withoutLod / withLod);
+  }
+
+  /**
+   * Steps two identical NPC sets, one with LOD, and compares the NPCs that
+   * have no skipped time pending. Throws if any is off by more than the
+   * tolerance.
+   */
+  private static void checkConsistency() {
+    EntityManager full = new EntityManager();
+    EntityManager reduced = new EntityManager();
+    NPCEntity[] fullNpcs = new NPCEntity[ENTITY_COUNT];
+    NPCEntity[] reducedNpcs = new NPCEntity[ENTITY_COUNT];
+    Random random = new Random(42);
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      float x = random.nextFloat() * WORLD_SIZE;
+      float y = random.nextFloat() * WORLD_SIZE;
+      float vx = random.nextFloat() * 100f - 50f;
+      float vy = random.nextFloat() * 100f - 50f;
+      fullNpcs[i] = new NPCEntity("Wanderer", x, y);
+      reducedNpcs[i] = new NPCEntity("Wanderer", x, y);
+      fullNpcs[i].setVelocity(vx, vy);
+      reducedNpcs[i].setVelocity(vx, vy);
+      full.create(fullNpcs[i]);
+      reduced.create(reducedNpcs[i]);
+    }
+
+    UpdateLod lod = new UpdateLod(800f, 2500f, 4, 16);
+    lod.addFocus(WORLD_SIZE / 2, WORLD_SIZE / 2);
+    reduced.setUpdateLod(lod);
+    for (int i = 0; i < CHECK_FRAMES; i++) {
+      full.update(FRAME_DELTA);
+      reduced.update(FRAME_DELTA);
+    }
+
+    int compared = 0;
+    float worst = 0f;
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      if (reducedNpcs[i].lodDeltaTime != 0f) {
+        continue;
+      }
+      compared++;
+      worst = Math.max(worst, Math.abs(fullNpcs[i].getPositionX() - reducedNpcs[i].getPositionX()));
+      worst = Math.max(worst, Math.abs(fullNpcs[i].getPositionY() - reducedNpcs[i].getPositionY()));
+    }
+    System.out.println("Compared " + compared + " NPCs up to date after " + CHECK_FRAMES + " frames");
+    System.out.printf("Largest position difference: %.4f px%n", worst);
+    if (worst > CHECK_TOLERANCE) {
+      throw new IllegalStateException("LOD moved NPCs " + worst + " px away from full-rate updates");
+    }
+  }
+
+  /**
+   * NPC that scores a ring of candidate headings every update,
+   * roughly the cost of a simple steering behaviour.
+   */
+  private static class SteeringNpc extends NPCEntity {
+
+    private static final int CANDIDATES = 16;
+
+    SteeringNpc(float x, float y) {
+      super("Steering", x, y);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+      float bestX = 0f;
+      float bestY = 0f;
+      float bestScore = -Float.MAX_VALUE;
+      for (int i = 0; i < CANDIDATES; i++) {
+        double angle = i * (2 * Math.PI / CANDIDATES);
+        float dirX = (float) Math.cos(angle);
+        float dirY = (float) Math.sin(angle);
+        float score = dirX * getVelocityX() + dirY * getVelocityY();
+        if (score > bestScore) {
+          bestScore = score;
+          bestX = dirX;
+          bestY = dirY;
+        }
+      }
+      applyImpulse(bestX, bestY);
+      super.update(deltaTime);
+    }
+  }
+
+  private static double measure(EntityManager manager) {
+    for (int i = 0; i < WARMUP_FRAMES; i++) {
+      manager.update(FRAME_DELTA);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_FRAMES; i++) {
+      manager.update(FRAME_DELTA);
+    }
+    return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_FRAMES;
+  }
+}
@@ -0,0 +1,165 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A file inside a PackedArchive.
+ *
+ * Reads come straight from the archive's memory mapping: read() streams
+ * from it without a file open, map() hands out a read-only view with no
+ * copy at all, and readBytes() is a single copy into the returned array.
+ * child(), sibling() and parent() stay inside the archive, so loaders that
+ * resolve dependencies relative to a file (atlases, fonts) find them there.
+ */
+public class ArchiveFileHandle extends FileHandle {
+
+    private final PackedArchive archive;
+    private final int index;            // -1 = not in the archive (or a directory)
+
+    ArchiveFileHandle(PackedArchive archive, String name, int index) {
+        super(name, FileType.Internal);
+        this.archive = archive;
+        this.index = index;
+    }
+
+    // --- READING ---
+
+    @Override
+    public InputStream read() {
+        return new MappedInputStream(view());
+    }
+
+    @Override
+    public byte[] readBytes() {
+        ByteBuffer view = view();
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return Read-only view of the file's bytes in the mapping (no copy)
+     */
+    @Override
+    public ByteBuffer map() {
+        return view();
+    }
+
+    @Override
+    public ByteBuffer map(FileChannel.MapMode mode) {
+        if (mode != FileChannel.MapMode.READ_ONLY) {
+            throw new GdxRuntimeException("Archive files are read-only: " + path());
+        }
+        return view();
+    }
+
+    private ByteBuffer view() {
+        if (index < 0) {
+            throw new GdxRuntimeException("File not found in archive " + archive.getPath() + ": " + path());
+        }
+        return archive.slice(index);
+    }
+
+    @Override
+    public boolean exists() {
+        return index >= 0;
+    }
+
+    @Override
+    public long length() {
+        return index >= 0 ? archive.length(index) : 0L;
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return false;
+    }
+
+    @Override
+    public long lastModified() {
+        return 0L;
+    }
+
+    // --- NAVIGATION (within the archive) ---
+
+    @Override
+    public FileHandle child(String name) {
+        return resolve(path().isEmpty() ? name : path() + "/" + name);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        String path = path();
+        int slash = path.lastIndexOf('/');
+        return resolve(slash < 0 ? name : path.substring(0, slash + 1) + name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        String path = path();
+        int slash = path.lastIndexOf('/');
+        return new ArchiveFileHandle(archive, slash < 0 ? "" : path.substring(0, slash), -1);
+    }
+
+    private FileHandle resolve(String name) {
+        ArchiveFileHandle handle = archive.get(name);
+        return handle != null ? handle : new ArchiveFileHandle(archive, name, -1);
+    }
+
+    // --- WRITING (not supported) ---
+
+    @Override
+    public OutputStream write(boolean append) {
+        throw new GdxRuntimeException("Cannot write to a packed archive: " + path());
+    }
+
+    /**
+     * InputStream over a buffer, without copying it first
+     */
+    private static final class MappedInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        MappedInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0L, Math.min(n, buffer.remaining()));
+            ((Buffer) buffer).position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
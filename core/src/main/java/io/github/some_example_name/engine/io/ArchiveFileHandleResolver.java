@@ -0,0 +1,38 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Resolves asset names from a PackedArchive first and falls back to
+ * another resolver (loose internal files by default) for anything the
+ * archive doesn't hold, e.g. files added since it was packed.
+ */
+public class ArchiveFileHandleResolver implements FileHandleResolver {
+
+    private final PackedArchive archive;
+    private final FileHandleResolver fallback;
+
+    public ArchiveFileHandleResolver(PackedArchive archive) {
+        this(archive, new InternalFileHandleResolver());
+    }
+
+    public ArchiveFileHandleResolver(PackedArchive archive, FileHandleResolver fallback) {
+        if (archive == null || fallback == null) {
+            throw new IllegalArgumentException("Archive and fallback resolver cannot be null");
+        }
+        this.archive = archive;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FileHandle resolve(String fileName) {
+        FileHandle packed = archive.get(fileName);
+        return packed != null ? packed : fallback.resolve(fileName);
+    }
+
+    public PackedArchive getArchive() {
+        return archive;
+    }
+}
@@ -0,0 +1,338 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetErrorListener;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Engine-wide owner of loaded textures, sounds and music.
+ *
+ * Loading is done by an AssetManager on its worker thread; this class adds
+ * reference counting and a memory budget on top. Code that keeps an asset
+ * beyond the current frame retain()s it and release()s it when done. An
+ * asset nobody holds stays resident as a cache entry and is only unloaded
+ * when the resident total goes over budget, least recently used first.
+ *
+ * Sizes are estimates: textures count width * height * 4 bytes, everything
+ * else counts its file size.
+ */
+public class AssetCache implements Disposable {
+
+    public static final long DEFAULT_BUDGET_BYTES = 128L * 1024 * 1024;
+
+    /**
+     * One cached name
+     */
+    private static final class Entry {
+        final String name;
+        final Class<?> type;
+        int refs;
+        long bytes = -1;                // -1 until loaded and measured
+
+        Entry(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private final FileHandleResolver resolver;
+    private AssetManager manager;       // Created on first load
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final List<Entry> unmeasured = new ArrayList<>();
+    // Names that failed to load - never retried
+    private final Set<String> failed = new HashSet<>();
+
+    private long budgetBytes;
+    private long residentBytes;
+
+    // Statistics
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long evictedBytes;
+
+    public AssetCache() {
+        this(new InternalFileHandleResolver(), DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * @param resolver Where asset names are looked up (internal files, an archive, ...)
+     * @param budgetBytes Resident size above which unreferenced assets are evicted
+     */
+    public AssetCache(FileHandleResolver resolver, long budgetBytes) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("Resolver cannot be null");
+        }
+        this.resolver = resolver;
+        setBudgetBytes(budgetBytes);
+    }
+
+    // --- LOADING ---
+
+    /**
+     * Queue an asset for background loading without holding it
+     */
+    public <T> void load(String name, Class<T> type) {
+        if (entries.containsKey(name) || failed.contains(name)) {
+            return;
+        }
+        manager().load(name, type);
+        Entry entry = new Entry(name, type);
+        entries.put(name, entry);
+        unmeasured.add(entry);
+    }
+
+    /**
+     * Advance background loading and enforce the budget. Call once per frame.
+     *
+     * @return Whether everything queued so far has loaded
+     */
+    public boolean update() {
+        if (manager == null) {
+            return true;
+        }
+        boolean done = manager.update();
+        measureLoaded();
+        evictOverBudget();
+        return done;
+    }
+
+    /**
+     * Block until everything queued has loaded (e.g. behind a loading screen)
+     */
+    public void finishLoading() {
+        if (manager != null) {
+            manager.finishLoading();
+            measureLoaded();
+            evictOverBudget();
+        }
+    }
+
+    public float getProgress() {
+        return manager == null ? 1f : manager.getProgress();
+    }
+
+    public boolean isLoading() {
+        return manager != null && !manager.isFinished();
+    }
+
+    public boolean isLoaded(String name) {
+        return manager != null && entries.containsKey(name) && manager.isLoaded(name);
+    }
+
+    /**
+     * @return Whether the name is loaded or queued
+     */
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    public boolean isFailed(String name) {
+        return failed.contains(name);
+    }
+
+    /**
+     * A file by asset name, from the same place the cache loads from
+     * (e.g. for manifests or images packed outside the cache)
+     */
+    public FileHandle resolve(String name) {
+        return resolver.resolve(name);
+    }
+
+    public FileHandleResolver getResolver() {
+        return resolver;
+    }
+
+    // --- ACCESS ---
+
+    /**
+     * Look up a loaded asset and mark it recently used. A name that isn't
+     * loaded yet counts as a miss and is queued.
+     *
+     * @return The asset, or null while it is loading (or if it failed)
+     */
+    public <T> T get(String name, Class<T> type) {
+        Entry entry = entries.get(name);
+        if (entry != null && manager.isLoaded(name)) {
+            hits++;
+            if (entry.bytes < 0) {
+                measure(entry);
+            }
+            return manager.get(name, type);
+        }
+        misses++;
+        load(name, type);
+        return null;
+    }
+
+    /**
+     * Hold an asset so it is never evicted. Every retain() needs a matching release().
+     */
+    public void retain(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Asset not in cache: " + name);
+        }
+        entry.refs++;
+    }
+
+    /**
+     * Drop a hold. The asset stays resident until the budget needs the space.
+     */
+    public void release(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null && failed.contains(name)) {
+            // Retained while loading, then dropped when the load failed
+            return;
+        }
+        if (entry == null || entry.refs == 0) {
+            throw new IllegalStateException("Asset released more often than retained: " + name);
+        }
+        entry.refs--;
+    }
+
+    public int getRefCount(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry.refs : 0;
+    }
+
+    // --- BUDGET ---
+
+    public void setBudgetBytes(long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Budget must be >= 0");
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    private void evictOverBudget() {
+        if (residentBytes <= budgetBytes) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (residentBytes > budgetBytes && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.refs > 0 || entry.bytes < 0) {
+                continue;
+            }
+            it.remove();
+            manager.unload(entry.name);
+            residentBytes -= entry.bytes;
+            evictions++;
+            evictedBytes += entry.bytes;
+        }
+    }
+
+    private void measureLoaded() {
+        for (int i = unmeasured.size() - 1; i >= 0; i--) {
+            Entry entry = unmeasured.get(i);
+            if (entry.bytes < 0 && manager.isLoaded(entry.name)) {
+                measure(entry);
+            }
+        }
+    }
+
+    private void measure(Entry entry) {
+        Object asset = manager.get(entry.name, entry.type);
+        if (asset instanceof Texture) {
+            Texture texture = (Texture) asset;
+            entry.bytes = (long) texture.getWidth() * texture.getHeight() * 4;
+        } else {
+            FileHandle file = resolver.resolve(entry.name);
+            entry.bytes = file.exists() ? file.length() : 0L;
+        }
+        residentBytes += entry.bytes;
+        unmeasured.remove(entry);
+    }
+
+    // --- STATISTICS ---
+
+    /**
+     * @return get() calls that found their asset loaded
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return get() calls that had to queue or wait for a load
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Estimated bytes of everything currently loaded
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public int getResidentCount() {
+        return entries.size() - unmeasured.size();
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getEvictedBytes() {
+        return evictedBytes;
+    }
+
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        evictedBytes = 0;
+    }
+
+    private AssetManager manager() {
+        if (manager == null) {
+            manager = new AssetManager(resolver);
+            // Report a missing/corrupt file instead of failing the whole update()
+            manager.setErrorListener(new AssetErrorListener() {
+                @Override
+                public void error(AssetDescriptor asset, Throwable throwable) {
+                    System.err.println("Asset Missing: " + asset.fileName);
+                    failed.add(asset.fileName);
+                    Entry entry = entries.remove(asset.fileName);
+                    if (entry != null) {
+                        unmeasured.remove(entry);
+                    }
+                }
+            });
+        }
+        return manager;
+    }
+
+    @Override
+    public void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        entries.clear();
+        unmeasured.clear();
+        failed.clear();
+        residentBytes = 0;
+    }
+}
@@ -1,69 +1,468 @@
 package io.github.some_example_name.engine.io;
 // package main.java.io.github.some_example_name.engine.io;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Disposable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class AudioOutput implements Disposable {
 
-    // Cache sounds to prevent disk lag
-    private Map<String, Sound> soundEffects;
-    private Music backgroundMusic;
+    // Files under this folder in the manifest are streamed as Music, the rest are Sounds
+    private static final String MUSIC_FOLDER = "music/";
+
+    // Shared cache that loads and owns every Sound/Music; decoding runs on its worker thread
+    private final AssetCache assets;
+
+    // Names requested while not loaded yet (reported once each)
+    private final Set<String> notReady = new HashSet<>();
+
+    // Voice limiting: per-sound caps/priority/retrigger interval, plus a global voice table
+    public static final int DEFAULT_MAX_VOICES = 32;
+    private static final int DEFAULT_MAX_INSTANCES = 4;
+    private static final float DEFAULT_MIN_INTERVAL = 0.03f;
+    private static final float DEFAULT_VOICE_SECONDS = 1.0f;
+
+    private final Map<String, VoicePool.SoundVoices> soundVoices = new HashMap<>();
+    private final VoicePool voices = new VoicePool(DEFAULT_MAX_VOICES);
+    // Sounds with playing voices hold a cache reference, so they are never evicted mid-play
+    private final List<VoicePool.SoundVoices> heldSounds = new ArrayList<>();
+    private float clock;                // Seconds of update() time, for retrigger checks
+
+    // Positional sounds: listener (usually the camera), hearing range, and how
+    // often pan/volume of moving emitters is refreshed
+    public static final float DEFAULT_SPATIAL_RATE = 20f;
+    private float listenerX;
+    private float listenerY;
+    private float innerRadius = 200f;   // Full volume within this distance
+    private float outerRadius = 800f;   // Silent (and culled) from this distance
+    private float spatialInterval = 1f / DEFAULT_SPATIAL_RATE;
+    private float spatialTimer;
+    private long sourcesCulled;
+
+    // Play counters (this frame, and last completed frame)
+    private int playsRequested;
+    private int playsStarted;
+    private int playsCulled;
+    private int lastPlaysRequested;
+    private int lastPlaysStarted;
+    private int lastPlaysCulled;
+
+    // Crossfading background music
+    private final MusicMixer music;
+    private float musicFadeSeconds = 0.75f;
     private float volume = 1.0f;
 
-    public AudioOutput() {
-        soundEffects = new HashMap<>();
+    /**
+     * @param assets Cache that sounds and music are loaded through
+     */
+    public AudioOutput(AssetCache assets) {
+        this.assets = assets;
+        this.music = new MusicMixer(assets);
     }
 
-    public void playSound(String fileName) {
-        if (!soundEffects.containsKey(fileName)) {
-            if (Gdx.files.internal(fileName).exists()) {
-                Sound s = Gdx.audio.newSound(Gdx.files.internal(fileName));
-                soundEffects.put(fileName, s);
-            } else {
-                System.err.println("Audio Missing: " + fileName);
-                return;
+    // --- PRELOADING ---
+
+    /**
+     * Queue every audio file in an asset list (one path per line, e.g. the
+     * generated assets.txt) for background loading. The asset cache's
+     * update() lets the loads finish.
+     */
+    public void preload(FileHandle manifest) {
+        if (!manifest.exists()) {
+            System.err.println("Audio manifest missing: " + manifest.path());
+            return;
+        }
+        for (String line : manifest.readString().split("\n")) {
+            String name = line.trim();
+            if (isAudioFile(name)) {
+                if (name.startsWith(MUSIC_FOLDER)) {
+                    preloadMusic(name);
+                } else {
+                    preloadSound(name);
+                }
+            }
+        }
+    }
+
+    public void preloadSound(String fileName) {
+        assets.load(fileName, Sound.class);
+    }
+
+    public void preloadMusic(String fileName) {
+        assets.load(fileName, Music.class);
+    }
+
+    /**
+     * Advance voice bookkeeping, positional updates and music fades. Call
+     * once per frame after the asset cache's update(); returns quickly.
+     *
+     * @return Whether everything queued so far has loaded
+     */
+    public boolean update(float deltaTime) {
+        clock += deltaTime;
+        voices.expire(clock);
+
+        spatialTimer += deltaTime;
+        if (spatialTimer >= spatialInterval) {
+            // One batched pass; after a long hitch don't try to catch up
+            spatialTimer = Math.min(spatialTimer - spatialInterval, spatialInterval);
+            sourcesCulled += voices.attenuate(listenerX, listenerY, innerRadius, outerRadius, volume);
+        }
+
+        lastPlaysRequested = playsRequested;
+        lastPlaysStarted = playsStarted;
+        lastPlaysCulled = playsCulled;
+        playsRequested = 0;
+        playsStarted = 0;
+        playsCulled = 0;
+
+        // Let go of sounds whose last voice has ended
+        for (int i = heldSounds.size() - 1; i >= 0; i--) {
+            VoicePool.SoundVoices limits = heldSounds.get(i);
+            if (limits.active == 0) {
+                assets.release(limits.name);
+                limits.held = false;
+                heldSounds.set(i, heldSounds.get(heldSounds.size() - 1));
+                heldSounds.remove(heldSounds.size() - 1);
             }
         }
-        soundEffects.get(fileName).play(volume);
+
+        music.update(deltaTime, volume);
+        return !assets.isLoading();
+    }
+
+    /**
+     * @return Fraction of queued assets loaded so far (0..1), for loading screens
+     */
+    public float getLoadProgress() {
+        return assets.getProgress();
+    }
+
+    public boolean isLoading() {
+        return assets.isLoading();
+    }
+
+    public boolean isLoaded(String fileName) {
+        return assets.isLoaded(fileName);
+    }
+
+    /**
+     * Block until everything queued has loaded (e.g. behind a loading screen)
+     */
+    public void finishLoading() {
+        assets.finishLoading();
+    }
+
+    // --- PLAYBACK ---
+
+    /**
+     * Play a preloaded sound. Never touches the disk: a sound that hasn't
+     * finished loading is skipped (and queued if it was never requested).
+     */
+    public void playSound(String fileName) {
+        playSound(fileName, 1f);
+    }
+
+    /**
+     * Play a preloaded sound within its voice limits (see configureSound).
+     *
+     * @param gain Multiplied with the master volume
+     * @return The instance id, or -1 if the play was culled or not loaded yet
+     */
+    public long playSound(String fileName, float gain) {
+        playsRequested++;
+        Sound sound = loadedOrQueue(fileName, Sound.class);
+        VoicePool.SoundVoices limits = voicesFor(fileName);
+        if (!admit(sound, limits)) {
+            return -1;
+        }
+
+        long id = sound.play(volume * gain);
+        if (id == -1) {
+            // The backend ran out of voices itself
+            playsCulled++;
+            return -1;
+        }
+        limits.lastPlayTime = clock;
+        voices.add(sound, id, limits, clock);
+        hold(limits);
+        playsStarted++;
+        return id;
+    }
+
+    /**
+     * Play a preloaded sound from a world position. Pan and distance
+     * attenuation are relative to the listener; a source already out of
+     * hearing range is culled without playing. Move it afterwards with
+     * setSoundPosition().
+     *
+     * @param gain Multiplied with the distance falloff and master volume
+     * @return The instance id, or -1 if the play was culled or not loaded yet
+     */
+    public long playSoundAt(String fileName, float x, float y, float gain) {
+        playsRequested++;
+        float dx = x - listenerX;
+        float dy = y - listenerY;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance >= outerRadius) {
+            playsCulled++;
+            sourcesCulled++;
+            return -1;
+        }
+        Sound sound = loadedOrQueue(fileName, Sound.class);
+        VoicePool.SoundVoices limits = voicesFor(fileName);
+        if (!admit(sound, limits)) {
+            return -1;
+        }
+
+        float startVolume = volume * gain * VoicePool.falloff(distance, innerRadius, outerRadius);
+        float pan = VoicePool.pan(dx, outerRadius);
+        long id = sound.play(startVolume, 1f, pan);
+        if (id == -1) {
+            playsCulled++;
+            return -1;
+        }
+        limits.lastPlayTime = clock;
+        voices.addAt(sound, id, limits, clock, x, y, gain, pan, startVolume);
+        hold(limits);
+        playsStarted++;
+        return id;
     }
 
+    /**
+     * Move the emitter of a positional sound. Only stored here; the backend
+     * is updated by the next batched pass in update().
+     *
+     * @return false if the instance has ended, was culled, or isn't positional
+     */
+    public boolean setSoundPosition(long id, float x, float y) {
+        return voices.setPosition(id, x, y);
+    }
+
+    private void hold(VoicePool.SoundVoices limits) {
+        if (!limits.held) {
+            assets.retain(limits.name);
+            limits.held = true;
+            heldSounds.add(limits);
+        }
+    }
+
+    private boolean admit(Sound sound, VoicePool.SoundVoices limits) {
+        if (sound == null
+                || clock - limits.lastPlayTime < limits.minInterval
+                || !voices.makeRoom(limits, clock)) {
+            playsCulled++;
+            return false;
+        }
+        return true;
+    }
+
+    // --- LISTENER ---
+
+    /**
+     * Where positional sounds are heard from, in world units (e.g. the camera centre)
+     */
+    public void setListenerPosition(float x, float y) {
+        this.listenerX = x;
+        this.listenerY = y;
+    }
+
+    /**
+     * @param innerRadius Distance up to which sounds play at full volume
+     * @param outerRadius Distance at which sounds fade out completely and are stopped
+     */
+    public void setHearingRange(float innerRadius, float outerRadius) {
+        if (innerRadius < 0f || !(outerRadius > innerRadius)) {
+            throw new IllegalArgumentException("Hearing range must satisfy 0 <= inner < outer");
+        }
+        this.innerRadius = innerRadius;
+        this.outerRadius = outerRadius;
+    }
+
+    /**
+     * How many times per second positional sounds are re-panned and re-attenuated
+     */
+    public void setSpatialUpdateRate(float updatesPerSecond) {
+        if (!(updatesPerSecond > 0f)) {
+            throw new IllegalArgumentException("Spatial update rate must be > 0");
+        }
+        this.spatialInterval = 1f / updatesPerSecond;
+    }
+
+    public int getPositionalVoices() {
+        return voices.positionalSize();
+    }
+
+    /**
+     * @return Positional sources stopped or never started because they were out of range
+     */
+    public long getSourcesCulled() {
+        return sourcesCulled;
+    }
+
+    // --- VOICE LIMITS ---
+
+    /**
+     * Set how a sound competes for voices.
+     *
+     * @param maxInstances Copies allowed at once; one more restarts the oldest
+     * @param priority When all voices are busy, a play may steal from lower or equal priority
+     * @param minRetriggerSeconds Plays closer together than this are dropped
+     * @param voiceSeconds How long one play holds a voice (about the sound's length)
+     */
+    public void configureSound(String fileName, int maxInstances, int priority,
+                               float minRetriggerSeconds, float voiceSeconds) {
+        if (maxInstances < 1) {
+            throw new IllegalArgumentException("Max instances must be >= 1");
+        }
+        if (minRetriggerSeconds < 0f || !(voiceSeconds > 0f)) {
+            throw new IllegalArgumentException("Retrigger interval must be >= 0 and voice length > 0");
+        }
+        VoicePool.SoundVoices limits = voicesFor(fileName);
+        limits.maxInstances = maxInstances;
+        limits.priority = priority;
+        limits.minInterval = minRetriggerSeconds;
+        limits.voiceSeconds = voiceSeconds;
+    }
+
+    /**
+     * Total sound instances allowed at once across all sounds
+     */
+    public void setMaxVoices(int maxVoices) {
+        if (maxVoices < 1) {
+            throw new IllegalArgumentException("Max voices must be >= 1");
+        }
+        voices.setMaxVoices(maxVoices);
+    }
+
+    public int getMaxVoices() {
+        return voices.getMaxVoices();
+    }
+
+    public int getActiveVoices() {
+        return voices.size();
+    }
+
+    /**
+     * @return playSound calls in the last completed frame
+     */
+    public int getPlaysRequested() {
+        return lastPlaysRequested;
+    }
+
+    /**
+     * @return Sounds actually started in the last completed frame
+     */
+    public int getPlaysStarted() {
+        return lastPlaysStarted;
+    }
+
+    /**
+     * @return Plays dropped in the last completed frame (limits, retrigger, not loaded)
+     */
+    public int getPlaysCulled() {
+        return lastPlaysCulled;
+    }
+
+    private VoicePool.SoundVoices voicesFor(String fileName) {
+        VoicePool.SoundVoices limits = soundVoices.get(fileName);
+        if (limits == null) {
+            limits = new VoicePool.SoundVoices(fileName, DEFAULT_MAX_INSTANCES, 0,
+                    DEFAULT_MIN_INTERVAL, DEFAULT_VOICE_SECONDS);
+            soundVoices.put(fileName, limits);
+        }
+        return limits;
+    }
+
+    // --- MUSIC ---
+
+    /**
+     * Loop a track, crossfading from the current one over the default fade
+     * time. Nothing blocks: if the track is still loading, the old one keeps
+     * playing until it is ready.
+     */
     public void playMusic(String fileName) {
-        stopMusic();
+        playMusic(fileName, musicFadeSeconds);
+    }
 
-        if (Gdx.files.internal(fileName).exists()) {
-            backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(fileName));
-            backgroundMusic.setVolume(volume);
-            backgroundMusic.setLooping(true);
-            backgroundMusic.play();
+    /**
+     * @param fadeSeconds Crossfade length (0 = cut straight over)
+     */
+    public void playMusic(String fileName, float fadeSeconds) {
+        if (assets.isFailed(fileName)) {
+            return;
         }
+        assets.load(fileName, Music.class);
+        music.play(fileName, Math.max(0f, fadeSeconds));
     }
 
+    /**
+     * Stop the music immediately
+     */
     public void stopMusic() {
-        if (backgroundMusic != null) {
-            backgroundMusic.stop();
-            backgroundMusic.dispose();
-            backgroundMusic = null;
-        }
+        stopMusic(0f);
+    }
+
+    public void stopMusic(float fadeSeconds) {
+        music.stop(Math.max(0f, fadeSeconds));
+    }
+
+    /**
+     * Default crossfade used by playMusic(String)
+     */
+    public void setMusicFadeSeconds(float seconds) {
+        this.musicFadeSeconds = Math.max(0f, seconds);
+    }
+
+    /**
+     * @return The track playing (or fading in), null if none
+     */
+    public String getMusicName() {
+        return music.getCurrentName();
+    }
+
+    public boolean isMusicCrossfading() {
+        return music.isCrossfading();
     }
 
     public void setVolume(float v) {
         this.volume = v;
-        if (backgroundMusic != null) {
-            backgroundMusic.setVolume(volume);
+        music.setVolume(volume);
+    }
+
+    private <T> T loadedOrQueue(String fileName, Class<T> type) {
+        T asset = assets.get(fileName, type);
+        if (asset == null && !assets.isFailed(fileName) && notReady.add(fileName)) {
+            System.err.println("Audio not loaded yet (skipped): " + fileName);
         }
+        return asset;
+    }
+
+    private static boolean isAudioFile(String name) {
+        String lower = name.toLowerCase();
+        return lower.endsWith(".mp3") || lower.endsWith(".ogg") || lower.endsWith(".wav");
     }
 
+    /**
+     * Stop everything and drop this output's cache references. The cache
+     * itself belongs to IOManager.
+     */
     @Override
     public void dispose() {
-        for (Sound s : soundEffects.values()) {
-            s.dispose();
+        voices.stopAll();
+        for (int i = 0; i < heldSounds.size(); i++) {
+            assets.release(heldSounds.get(i).name);
+            heldSounds.get(i).held = false;
         }
-        soundEffects.clear();
-        stopMusic();
+        heldSounds.clear();
+        music.stopAll();
+        notReady.clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,230 @@
+package io.github.some_example_name.engine.io;
+// package main.java.io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Deferred sprite commands, sorted by layer then texture before submission.
+ *
+ * Commands are stored in parallel primitive arrays. Each one gets a 32-bit
+ * sort key (layer in the high 16 bits, per-frame texture id in the low 16)
+ * and the queue is ordered with a stable LSD radix sort, so sprites sharing
+ * a layer and texture keep their submission order and the batch only has
+ * to flush when the texture actually changes.
+ */
+public class DrawQueue {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int LAYER_OFFSET = 1 << 15;    // Maps signed layers to 0..65535
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    // Commands (index = submission order)
+    private TextureRegion[] regions;
+    private float[] x;
+    private float[] y;
+    private float[] width;
+    private float[] height;
+    private int[] keys;
+    private int count;
+
+    // Radix sort buffers
+    private int[] order;
+    private int[] scratch;
+    private final int[] histogram = new int[RADIX];
+
+    // Texture -> small id, reset every frame (first seen = lowest id)
+    private final Map<Texture, Integer> textureIds = new IdentityHashMap<>();
+    private Texture lastTexture;
+    private int lastTextureId;
+
+    private int switchesUnsorted;       // Running count for the frame being recorded
+
+    // Statistics for the last flushed frame
+    private int lastCommands;
+    private int lastSwitchesUnsorted;
+    private int lastSwitchesSorted;
+
+    public DrawQueue() {
+        regions = new TextureRegion[INITIAL_CAPACITY];
+        x = new float[INITIAL_CAPACITY];
+        y = new float[INITIAL_CAPACITY];
+        width = new float[INITIAL_CAPACITY];
+        height = new float[INITIAL_CAPACITY];
+        keys = new int[INITIAL_CAPACITY];
+        order = new int[INITIAL_CAPACITY];
+        scratch = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Record a sprite to draw at the end of the frame
+     *
+     * @param layer Lower layers are drawn first (clamped to a 16-bit range)
+     */
+    public void add(TextureRegion region, float drawX, float drawY, float drawWidth, float drawHeight, int layer) {
+        if (count == regions.length) {
+            grow();
+        }
+        int layerKey = Math.max(0, Math.min(0xFFFF, layer + LAYER_OFFSET));
+        regions[count] = region;
+        x[count] = drawX;
+        y[count] = drawY;
+        width[count] = drawWidth;
+        height[count] = drawHeight;
+        keys[count] = (layerKey << 16) | textureId(region.getTexture());
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Sort the recorded commands and draw them into an already-begun batch,
+     * then clear the queue for the next frame.
+     */
+    public void flush(Batch batch) {
+        sort();
+
+        int switchesSorted = 0;
+        Texture previous = null;
+        for (int n = 0; n < count; n++) {
+            int i = order[n];
+            TextureRegion region = regions[i];
+            if (region.getTexture() != previous) {
+                if (previous != null) {
+                    switchesSorted++;
+                }
+                previous = region.getTexture();
+            }
+            batch.draw(region, x[i], y[i], width[i], height[i]);
+        }
+
+        lastCommands = count;
+        lastSwitchesUnsorted = switchesUnsorted;
+        lastSwitchesSorted = switchesSorted;
+        clear();
+    }
+
+    public void clear() {
+        // Drop region references so disposed entities can be collected
+        for (int i = 0; i < count; i++) {
+            regions[i] = null;
+        }
+        count = 0;
+        textureIds.clear();
+        lastTexture = null;
+        switchesUnsorted = 0;
+    }
+
+    // --- STATISTICS (last flushed frame) ---
+
+    public int getCommandCount() {
+        return lastCommands;
+    }
+
+    /**
+     * @return Texture switches the frame would have needed in submission order
+     */
+    public int getTextureSwitchesUnsorted() {
+        return lastSwitchesUnsorted;
+    }
+
+    /**
+     * @return Texture switches after sorting (what the batch actually saw)
+     */
+    public int getTextureSwitches() {
+        return lastSwitchesSorted;
+    }
+
+    // --- INTERNALS ---
+
+    private int textureId(Texture texture) {
+        if (texture == lastTexture) {
+            return lastTextureId;
+        }
+        if (lastTexture != null) {
+            switchesUnsorted++;
+        }
+        Integer id = textureIds.get(texture);
+        if (id == null) {
+            id = Math.min(0xFFFF, textureIds.size());
+            textureIds.put(texture, id);
+        }
+        lastTexture = texture;
+        lastTextureId = id;
+        return id;
+    }
+
+    /**
+     * Stable LSD radix sort of command indices by key, 8 bits per pass.
+     * Passes where every key has the same digit are skipped.
+     */
+    private void sort() {
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        int[] src = order;
+        int[] dst = scratch;
+        for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+            for (int b = 0; b < RADIX; b++) {
+                histogram[b] = 0;
+            }
+            for (int n = 0; n < count; n++) {
+                histogram[(keys[src[n]] >>> shift) & (RADIX - 1)]++;
+            }
+            if (count == 0 || histogram[(keys[src[0]] >>> shift) & (RADIX - 1)] == count) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int c = histogram[b];
+                histogram[b] = sum;
+                sum += c;
+            }
+            for (int n = 0; n < count; n++) {
+                int i = src[n];
+                dst[histogram[(keys[i] >>> shift) & (RADIX - 1)]++] = i;
+            }
+
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        // Keep the sorted result in 'order'
+        if (src != order) {
+            scratch = order;
+            order = src;
+        }
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        TextureRegion[] newRegions = new TextureRegion[capacity];
+        System.arraycopy(regions, 0, newRegions, 0, count);
+        regions = newRegions;
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        width = copyOf(width, capacity);
+        height = copyOf(height, capacity);
+        int[] newKeys = new int[capacity];
+        System.arraycopy(keys, 0, newKeys, 0, count);
+        keys = newKeys;
+        order = new int[capacity];
+        scratch = new int[capacity];
+    }
+
+    private float[] copyOf(float[] source, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(source, 0, copy, 0, count);
+        return copy;
+    }
+}
@@ -1,80 +1,361 @@
 package io.github.some_example_name.engine.io;
 // package main.java.io.github.some_example_name.engine.io;
 
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import java.util.HashMap;
-import java.util.Map;
 
 public class DynamicInput implements InputProcessor {
 
-    // Maps KeyCodes (Integers) to Boolean states
-    private Map<Integer, Boolean> keyState;
-    private Map<Integer, Boolean> keyJustPressed;
+    // One bit per keycode, packed into longs
+    static final int KEY_COUNT = Input.Keys.MAX_KEYCODE + 1;
+    static final int WORDS = (KEY_COUNT + 63) >>> 6;
 
-    private String currentInput = "";
+    // Oldest typed characters are dropped past this length
+    private static final int MAX_TYPED_CHARS = 256;
+
+    // Written by the LibGDX callbacks as events arrive
+    private final long[] liveKeys;
+    private final long[] pressedSinceSnapshot;  // So a tap within one frame isn't lost
+
+    // Per-frame snapshot, swapped by update()
+    private long[] currentKeys;
+    private long[] previousKeys;
+
+    // A touch / click since the last snapshot, and in this frame's snapshot
+    private boolean touchedSinceSnapshot;
+    private boolean justTouched;
+
+    private final StringBuilder currentInput;
     private Vector2 mousePosition;
 
+    // Action mapping, evaluated right after each snapshot
+    private final InputActions actions;
+
+    // Optional recording / playback (at most one active at a time)
+    private InputRecorder recorder;
+    private InputReplay replay;
+
+    // Non-null while a simulation thread takes its input from here
+    private volatile InputHandoff handoff;
+
     public DynamicInput() {
-        keyState = new HashMap<>();
-        keyJustPressed = new HashMap<>();
+        liveKeys = new long[WORDS];
+        pressedSinceSnapshot = new long[WORDS];
+        currentKeys = new long[WORDS];
+        previousKeys = new long[WORDS];
+        currentInput = new StringBuilder(MAX_TYPED_CHARS);
         mousePosition = new Vector2();
+        actions = new InputActions();
+    }
+
+    /**
+     * Take this frame's key snapshot, recording or replaying it if active.
+     * Call once at the start of every frame, before any game logic reads
+     * input.
+     *
+     * @param deltaTime This frame's measured delta time
+     * @return Delta time to simulate with: the recorded one while replaying,
+     *         otherwise deltaTime unchanged
+     */
+    public float update(float deltaTime) {
+        if (replay != null) {
+            float recorded = replay.playFrame(this);
+            if (recorded >= 0f) {
+                deltaTime = recorded;
+            } else {
+                replay = null;
+            }
+        } else if (recorder != null) {
+            recorder.frame(deltaTime);
+        }
+
+        takeSnapshot();
+        return deltaTime;
+    }
+
+    private void takeSnapshot() {
+        long[] oldPrevious = previousKeys;
+        previousKeys = currentKeys;
+        currentKeys = oldPrevious;
+
+        for (int i = 0; i < WORDS; i++) {
+            currentKeys[i] = liveKeys[i] | pressedSinceSnapshot[i];
+            pressedSinceSnapshot[i] = 0L;
+        }
+        justTouched = touchedSinceSnapshot;
+        touchedSinceSnapshot = false;
+
+        actions.evaluate(currentKeys, previousKeys);
+
+        InputHandoff tickInput = handoff;
+        if (tickInput != null) {
+            tickInput.publish(currentKeys, liveKeys, mousePosition, actions);
+        }
     }
 
     // --- LOGIC QUERIES (Used by your Game Loop) ---
+    // All queries read the snapshot, so they are stable for the whole frame
+    // and can be called any number of times. On a simulation thread fed by
+    // openHandoff() they read that tick's snapshot instead.
 
     public boolean isKeyPressed(int keycode) {
-        return keyState.getOrDefault(keycode, false);
+        InputHandoff tickInput = tickInput();
+        long[] current = tickInput != null ? tickInput.currentKeys : currentKeys;
+        return isValid(keycode) && (current[keycode >>> 6] & (1L << keycode)) != 0;
     }
 
     public boolean isKeyJustPressed(int keycode) {
-        boolean pressed = keyJustPressed.getOrDefault(keycode, false);
-        if (pressed) {
-            keyJustPressed.put(keycode, false); // Consume the event so it only fires once
+        if (!isValid(keycode)) {
+            return false;
         }
-        return pressed;
+        InputHandoff tickInput = tickInput();
+        long[] current = tickInput != null ? tickInput.currentKeys : currentKeys;
+        long[] previous = tickInput != null ? tickInput.previousKeys : previousKeys;
+        int word = keycode >>> 6;
+        long bit = 1L << keycode;
+        return (current[word] & ~previous[word] & bit) != 0;
+    }
+
+    public boolean isKeyJustReleased(int keycode) {
+        if (!isValid(keycode)) {
+            return false;
+        }
+        InputHandoff tickInput = tickInput();
+        long[] current = tickInput != null ? tickInput.currentKeys : currentKeys;
+        long[] previous = tickInput != null ? tickInput.previousKeys : previousKeys;
+        int word = keycode >>> 6;
+        long bit = 1L << keycode;
+        return (~current[word] & previous[word] & bit) != 0;
+    }
+
+    /**
+     * Action / axis state for this frame, or this tick on the simulation
+     * thread (prefer this over raw keys in controllers)
+     */
+    public InputActions getActions() {
+        InputHandoff tickInput = tickInput();
+        return tickInput != null ? tickInput.getActions() : actions;
     }
 
     public Vector2 getMousePosition() {
-        return mousePosition;
+        InputHandoff tickInput = tickInput();
+        return tickInput != null ? tickInput.getMousePosition() : mousePosition;
+    }
+
+    /**
+     * @return Whether a touch / click went down since the previous frame
+     */
+    public boolean isJustTouched() {
+        return justTouched;
+    }
+
+    /**
+     * Characters typed so far (bounded, oldest dropped first)
+     */
+    public CharSequence getTypedInput() {
+        return currentInput;
+    }
+
+    public void clearTypedInput() {
+        currentInput.setLength(0);
+    }
+
+    // --- SIMULATION THREAD ---
+
+    /**
+     * Start handing every frame's snapshot to a simulation thread. That
+     * thread calls consume() once per tick; from then on its queries here
+     * answer from the tick's snapshot. Typed text and touches stay
+     * render-thread only.
+     */
+    public InputHandoff openHandoff() {
+        if (handoff != null) {
+            throw new IllegalStateException("Input is already handed to a simulation thread");
+        }
+        InputHandoff tickInput = new InputHandoff(actions);
+        tickInput.publish(currentKeys, liveKeys, mousePosition, actions);
+        handoff = tickInput;
+        return tickInput;
+    }
+
+    /**
+     * Stop the hand-over (after the simulation thread has finished)
+     */
+    public void closeHandoff() {
+        handoff = null;
+    }
+
+    private InputHandoff tickInput() {
+        InputHandoff tickInput = handoff;
+        return tickInput != null && tickInput.isConsumer() ? tickInput : null;
+    }
+
+    // --- RECORDING / REPLAY ---
+
+    /**
+     * Start writing the current input state, then every input event grouped
+     * by frame, to a file
+     */
+    public void startRecording(FileHandle file) {
+        if (replay != null) {
+            throw new IllegalStateException("Cannot record while replaying");
+        }
+        stopRecording();
+        recorder = new InputRecorder(file, currentKeys, liveKeys, pressedSinceSnapshot, mousePosition);
+    }
+
+    public void stopRecording() {
+        if (recorder != null) {
+            recorder.dispose();
+            recorder = null;
+        }
+    }
+
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Replay a recording in place of live input, starting from the input
+     * state saved with it. Hardware events are ignored until the recording
+     * runs out, then live input resumes.
+     */
+    public void startReplay(FileHandle file) {
+        stopRecording();
+        InputReplay next = new InputReplay(file);
+        resetState();
+        next.restoreStartState(this);
+        replay = next;
+    }
+
+    public void stopReplay() {
+        replay = null;
+    }
+
+    public boolean isReplaying() {
+        return replay != null;
+    }
+
+    private void resetState() {
+        for (int i = 0; i < WORDS; i++) {
+            liveKeys[i] = 0L;
+            pressedSinceSnapshot[i] = 0L;
+            currentKeys[i] = 0L;
+            previousKeys[i] = 0L;
+        }
+        touchedSinceSnapshot = false;
+        justTouched = false;
+        currentInput.setLength(0);
+        mousePosition.set(0, 0);
+        actions.evaluate(currentKeys, previousKeys);
+    }
+
+    private static boolean isValid(int keycode) {
+        return keycode >= 0 && keycode < KEY_COUNT;
+    }
+
+    // --- EVENT APPLICATION (shared by live input and replay) ---
+
+    void applyKeyDown(int keycode) {
+        if (isValid(keycode)) {
+            long bit = 1L << keycode;
+            liveKeys[keycode >>> 6] |= bit;
+            pressedSinceSnapshot[keycode >>> 6] |= bit;
+        }
+    }
+
+    void applyKeyUp(int keycode) {
+        if (isValid(keycode)) {
+            liveKeys[keycode >>> 6] &= ~(1L << keycode);
+        }
+    }
+
+    void applyKeyTyped(char character) {
+        if (currentInput.length() == MAX_TYPED_CHARS) {
+            currentInput.deleteCharAt(0);
+        }
+        currentInput.append(character);
+    }
+
+    void applyPointer(int screenX, int screenY) {
+        mousePosition.set(screenX, screenY);
+    }
+
+    void applyTouchDown(int screenX, int screenY) {
+        mousePosition.set(screenX, screenY);
+        touchedSinceSnapshot = true;
+    }
+
+    /**
+     * Restore the state a recording started from (no edges until the next update())
+     */
+    void applyStartState(long[] snapshotKeys, long[] heldKeys, long[] pressedKeys, int mouseX, int mouseY) {
+        for (int i = 0; i < WORDS; i++) {
+            currentKeys[i] = snapshotKeys[i];
+            previousKeys[i] = snapshotKeys[i];
+            liveKeys[i] = heldKeys[i];
+            pressedSinceSnapshot[i] = pressedKeys[i];
+        }
+        mousePosition.set(mouseX, mouseY);
+        actions.evaluate(currentKeys, previousKeys);
     }
 
     // --- LIBGDX CALLBACKS (Hardware Events) ---
+    // Ignored while a replay is driving input.
 
     @Override
     public boolean keyDown(int keycode) {
-        keyState.put(keycode, true);
-        keyJustPressed.put(keycode, true);
+        if (replay == null) {
+            if (recorder != null) recorder.key(InputRecorder.KEY_DOWN, keycode);
+            applyKeyDown(keycode);
+        }
         return true;
     }
 
     @Override
     public boolean keyUp(int keycode) {
-        keyState.put(keycode, false);
+        if (replay == null) {
+            if (recorder != null) recorder.key(InputRecorder.KEY_UP, keycode);
+            applyKeyUp(keycode);
+        }
         return true;
     }
 
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
-        mousePosition.set(screenX, screenY);
+        if (replay == null) {
+            if (recorder != null) recorder.touch(InputRecorder.TOUCH_DOWN, screenX, screenY, pointer, button);
+            applyTouchDown(screenX, screenY);
+        }
         return true;
     }
 
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
-        mousePosition.set(screenX, screenY);
+        if (replay == null) {
+            if (recorder != null) recorder.touch(InputRecorder.TOUCH_UP, screenX, screenY, pointer, button);
+            applyPointer(screenX, screenY);
+        }
         return true;
     }
 
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
-        mousePosition.set(screenX, screenY);
+        if (replay == null) {
+            if (recorder != null) recorder.mouseMoved(screenX, screenY);
+            applyPointer(screenX, screenY);
+        }
         return true;
     }
 
     @Override
     public boolean keyTyped(char character) {
-        currentInput += character;
+        if (replay == null) {
+            if (recorder != null) recorder.keyTyped(character);
+            applyKeyTyped(character);
+        }
         return true;
     }
 
@@ -85,7 +366,10 @@ public class DynamicInput implements InputProcessor {
 
     @Override
     public boolean touchDragged(int sX, int sY, int p) {
-        mousePosition.set(sX, sY);
+        if (replay == null) {
+            if (recorder != null) recorder.touchDragged(sX, sY, p);
+            applyPointer(sX, sY);
+        }
         return true;
     }
 
@@ -93,4 +377,4 @@ public class DynamicInput implements InputProcessor {
     public boolean scrolled(float aX, float aY) {
         return false;
     }
-}
\ No newline at end of file
+}
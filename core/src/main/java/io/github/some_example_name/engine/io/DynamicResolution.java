@@ -0,0 +1,196 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Renders the world into an off-screen buffer whose size follows frame time.
+ *
+ * Frame intervals are smoothed with a moving average. If the average stays
+ * over budget for a few frames the internal resolution drops one step; if
+ * it stays within budget for longer, one step back up is tried. With vsync
+ * a frame can't report spare time, so going up is a probe: if it pushes
+ * the frame over budget again straight away, the wait before the next
+ * probe doubles. This keeps the scale from flickering between two steps.
+ */
+public class DynamicResolution implements Disposable {
+
+    private static final float SMOOTHING = 0.1f;        // Moving average weight of the newest frame
+    private static final float TOLERANCE = 0.1f;        // Over budget = average > budget * 1.1
+    private static final int DOWN_FRAMES = 10;          // Frames over budget before stepping down
+    private static final int BASE_PROBE_FRAMES = 120;   // Frames in budget before stepping up
+    private static final int MAX_PROBE_FRAMES = BASE_PROBE_FRAMES * 16;
+
+    // Settings
+    private final float budgetMs;
+    private final float minScale;
+    private final float maxScale;
+    private final float step;
+
+    // Controller state
+    private float scale;
+    private float averageMs;
+    private int overFrames;
+    private int inBudgetFrames;
+    private int probeFrames = BASE_PROBE_FRAMES;
+    private int framesSinceProbe = -1;                  // -1 = last change wasn't a probe
+    private long lastFrameNanos;
+    private int scaleChanges;
+
+    // Off-screen target
+    private FrameBuffer buffer;
+    private int bufferWidth;
+    private int bufferHeight;
+
+    /**
+     * @param budgetMs Frame time to hold, e.g. 16.67 for 60 FPS
+     * @param minScale Lowest internal resolution as a fraction of the window (0..1]
+     */
+    public DynamicResolution(float budgetMs, float minScale) {
+        this(budgetMs, minScale, 1f, 0.1f);
+    }
+
+    public DynamicResolution(float budgetMs, float minScale, float maxScale, float step) {
+        if (!(budgetMs > 0f)) {
+            throw new IllegalArgumentException("Frame budget must be > 0");
+        }
+        if (!(minScale > 0f) || maxScale < minScale || maxScale > 1f) {
+            throw new IllegalArgumentException("Scales must satisfy 0 < min <= max <= 1");
+        }
+        if (!(step > 0f)) {
+            throw new IllegalArgumentException("Scale step must be > 0");
+        }
+        this.budgetMs = budgetMs;
+        this.minScale = minScale;
+        this.maxScale = maxScale;
+        this.step = step;
+        this.scale = maxScale;
+        this.averageMs = budgetMs;
+    }
+
+    // --- FRAME HOOKS (called by OutputManager) ---
+
+    /**
+     * Measure the last frame, adjust the scale and start drawing into the
+     * buffer, (re)creating it if the scale or the window changed.
+     *
+     * @param screenWidth Pixel width of the area the world is shown in
+     * @param screenHeight Pixel height of the area the world is shown in
+     */
+    void begin(long nowNanos, int screenWidth, int screenHeight) {
+        if (lastFrameNanos != 0L) {
+            recordFrame((nowNanos - lastFrameNanos) / 1_000_000f);
+        }
+        lastFrameNanos = nowNanos;
+
+        int width = Math.max(1, Math.round(screenWidth * scale));
+        int height = Math.max(1, Math.round(screenHeight * scale));
+        if (buffer == null || width != bufferWidth || height != bufferHeight) {
+            if (buffer != null) {
+                buffer.dispose();
+            }
+            buffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            bufferWidth = width;
+            bufferHeight = height;
+        }
+        buffer.begin();
+    }
+
+    /**
+     * Stop drawing into the buffer
+     *
+     * @return The rendered frame, to be drawn stretched over the view
+     *         (rows are bottom-up, so draw it with v = 0 at the bottom)
+     */
+    Texture end() {
+        buffer.end();
+        return buffer.getColorBufferTexture();
+    }
+
+    /**
+     * Feed one frame time into the controller
+     */
+    void recordFrame(float frameMs) {
+        averageMs += (frameMs - averageMs) * SMOOTHING;
+
+        if (framesSinceProbe >= 0 && ++framesSinceProbe > probeFrames) {
+            // Held the higher scale for a full probe period: it stuck
+            framesSinceProbe = -1;
+            probeFrames = BASE_PROBE_FRAMES;
+        }
+
+        if (averageMs > budgetMs * (1f + TOLERANCE)) {
+            inBudgetFrames = 0;
+            if (++overFrames >= DOWN_FRAMES && scale > minScale) {
+                if (framesSinceProbe >= 0) {
+                    // The last step up didn't hold - wait longer before trying again
+                    probeFrames = Math.min(probeFrames * 2, MAX_PROBE_FRAMES);
+                    framesSinceProbe = -1;
+                }
+                setScale(scale - step);
+            }
+        } else {
+            overFrames = 0;
+            if (++inBudgetFrames >= probeFrames && scale < maxScale) {
+                setScale(scale + step);
+                framesSinceProbe = 0;
+            }
+        }
+    }
+
+    private void setScale(float newScale) {
+        // Round away float drift from repeated steps
+        scale = Math.max(minScale, Math.min(maxScale, Math.round(newScale * 1000f) / 1000f));
+        overFrames = 0;
+        inBudgetFrames = 0;
+        scaleChanges++;
+        // Let the average settle on the new resolution
+        averageMs = budgetMs;
+    }
+
+    // --- METRICS ---
+
+    /**
+     * @return Internal resolution as a fraction of the window (1 = native)
+     */
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * @return Smoothed frame time the controller is acting on (ms)
+     */
+    public float getAverageFrameMs() {
+        return averageMs;
+    }
+
+    public float getBudgetMs() {
+        return budgetMs;
+    }
+
+    /**
+     * @return Number of times the scale changed
+     */
+    public int getScaleChanges() {
+        return scaleChanges;
+    }
+
+    public int getBufferWidth() {
+        return bufferWidth;
+    }
+
+    public int getBufferHeight() {
+        return bufferHeight;
+    }
+
+    @Override
+    public void dispose() {
+        if (buffer != null) {
+            buffer.dispose();
+            buffer = null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.some_example_name.engine.io;
 // package main.java.io.github.some_example_name.engine.io;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Disposable;
 
 public class IOManager implements Disposable {
@@ -10,15 +11,34 @@ public class IOManager implements Disposable {
     private static IOManager instance;
 
     // 2. Composition: The Manager "owns" these sub-systems
+    private final AssetCache assets;
     private AudioOutput audio;
     private DynamicInput dynamicInput;
     private OutputManager outputManager;
+    private boolean headless;
 
     // 3. Private Constructor (Singleton Pattern)
     private IOManager() {
-        audio = new AudioOutput();
+        assets = createAssetCache();
+        audio = new AudioOutput(assets);
         dynamicInput = new DynamicInput();
-        outputManager = new OutputManager();
+        outputManager = new OutputManager(assets);
+    }
+
+    /**
+     * Serve assets from the packed archive when the build produced one,
+     * loose files otherwise. Only a real file on disk can be mapped, so an
+     * archive inside the jar is ignored.
+     */
+    private static AssetCache createAssetCache() {
+        if (Gdx.files != null) {
+            FileHandle archive = Gdx.files.internal(PackedArchive.DEFAULT_NAME);
+            if (archive.file().exists()) {
+                return new AssetCache(new ArchiveFileHandleResolver(PackedArchive.open(archive)),
+                        AssetCache.DEFAULT_BUDGET_BYTES);
+            }
+        }
+        return new AssetCache();
     }
 
     // 4. Global Access Point
@@ -36,12 +56,40 @@ public class IOManager implements Disposable {
         // Initialize the renderer
         outputManager.initialize();
 
+        // Start decoding every sound in the asset list in the background
+        audio.preload(assets.resolve("assets.txt"));
+
         // Tell LibGDX to send all keyboard/mouse events to our DynamicInput class
         Gdx.input.setInputProcessor(dynamicInput);
     }
 
+    /**
+     * Call this instead of init() when there is no window or GL context
+     * (headless launcher, server). Audio and output are swapped for no-op
+     * versions; input stays available for scripted or replayed events.
+     */
+    public void initHeadless() {
+        audio.dispose();
+        outputManager.dispose();
+        audio = new NullAudioOutput();
+        outputManager = new NullOutputManager();
+        headless = true;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
     // --- Getters for the Sub-Managers ---
 
+    /**
+     * Shared owner of loaded textures, sounds and music. Call its update()
+     * once per frame.
+     */
+    public AssetCache getAssets() {
+        return assets;
+    }
+
     public AudioOutput getAudio() {
         return audio;
     }
@@ -50,18 +98,32 @@ public class IOManager implements Disposable {
         return dynamicInput;
     }
 
+    /**
+     * Action state for this frame, or this tick on the simulation thread
+     */
+    public InputActions getActions() {
+        return dynamicInput.getActions();
+    }
+
     public OutputManager getOutputManager() {
         return outputManager;
     }
 
     @Override
     public void dispose() {
+        // Flush and close a recording still in progress
+        dynamicInput.stopRecording();
+        dynamicInput.stopReplay();
+
         if (audio != null)
             audio.dispose();
         if (outputManager != null)
             outputManager.dispose();
+        assets.dispose();
 
         // Reset the input processor to avoid memory leaks or crashes
-        Gdx.input.setInputProcessor(null);
+        if (!headless) {
+            Gdx.input.setInputProcessor(null);
+        }
     }
 }
\ No newline at end of file
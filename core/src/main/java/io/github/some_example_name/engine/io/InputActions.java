@@ -0,0 +1,278 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.Input;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Action / axis mapping on top of DynamicInput.
+ *
+ * Each action's bindings are kept as a key bitmask in the same layout as
+ * DynamicInput's snapshot, so evaluating an action is a few AND operations
+ * no matter how many keys are bound. All actions are evaluated once per
+ * frame (right after the key snapshot) into a flat state array; controllers
+ * then read actions instead of polling keys. Rebinding just edits a mask.
+ */
+public class InputActions {
+
+    // Built-in actions (always defined, bound to WASD + arrows by default)
+    public static final int MOVE_UP = 0;
+    public static final int MOVE_DOWN = 1;
+    public static final int MOVE_LEFT = 2;
+    public static final int MOVE_RIGHT = 3;
+
+    // Built-in axes
+    public static final int MOVE_X = 0;
+    public static final int MOVE_Y = 1;
+
+    // State flags
+    private static final byte PRESSED = 1;
+    private static final byte JUST_PRESSED = 2;
+    private static final byte JUST_RELEASED = 4;
+
+    private static final int WORDS = DynamicInput.WORDS;
+
+    // Setup-time lookups only
+    private final List<String> actionNames;
+    private final Map<String, Integer> actionIds;
+    private final Map<String, Integer> axisIds;
+
+    // Compiled tables: action a owns masks[a * WORDS .. a * WORDS + WORDS)
+    private long[] masks;
+    private byte[] state;
+    private int actionCount;
+
+    private int[] axisNegative;
+    private int[] axisPositive;
+    private float[] axisValues;
+    private int axisCount;
+
+    // Bumped by every setup change, so copies know when they are stale
+    private int bindingVersion;
+
+    public InputActions() {
+        actionNames = new ArrayList<>();
+        actionIds = new HashMap<>();
+        axisIds = new HashMap<>();
+        masks = new long[8 * WORDS];
+        state = new byte[8];
+        axisNegative = new int[4];
+        axisPositive = new int[4];
+        axisValues = new float[4];
+
+        defineAction("move_up");
+        defineAction("move_down");
+        defineAction("move_left");
+        defineAction("move_right");
+        defineAxis("move_x", MOVE_LEFT, MOVE_RIGHT);
+        defineAxis("move_y", MOVE_DOWN, MOVE_UP);
+
+        bind(MOVE_UP, Input.Keys.W);
+        bind(MOVE_UP, Input.Keys.UP);
+        bind(MOVE_DOWN, Input.Keys.S);
+        bind(MOVE_DOWN, Input.Keys.DOWN);
+        bind(MOVE_LEFT, Input.Keys.A);
+        bind(MOVE_LEFT, Input.Keys.LEFT);
+        bind(MOVE_RIGHT, Input.Keys.D);
+        bind(MOVE_RIGHT, Input.Keys.RIGHT);
+    }
+
+    /**
+     * Copy of the bindings, with its own (cleared) state
+     */
+    private InputActions(InputActions source) {
+        actionNames = new ArrayList<>(source.actionNames);
+        actionIds = new HashMap<>(source.actionIds);
+        axisIds = new HashMap<>(source.axisIds);
+        masks = source.masks.clone();
+        state = new byte[source.state.length];
+        actionCount = source.actionCount;
+        axisNegative = source.axisNegative.clone();
+        axisPositive = source.axisPositive.clone();
+        axisValues = new float[source.axisValues.length];
+        axisCount = source.axisCount;
+        bindingVersion = source.bindingVersion;
+    }
+
+    // --- SETUP ---
+
+    /**
+     * Defines a new action (or returns the existing id for this name)
+     *
+     * @return Action id for the per-frame queries
+     */
+    public int defineAction(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Action name cannot be null or empty.");
+        }
+        Integer existing = actionIds.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = actionCount++;
+        if (id == state.length) {
+            long[] newMasks = new long[masks.length * 2];
+            byte[] newState = new byte[state.length * 2];
+            System.arraycopy(masks, 0, newMasks, 0, masks.length);
+            System.arraycopy(state, 0, newState, 0, state.length);
+            masks = newMasks;
+            state = newState;
+        }
+        actionNames.add(name);
+        actionIds.put(name, id);
+        bindingVersion++;
+        return id;
+    }
+
+    /**
+     * Defines an axis that reads -1 / 0 / +1 from a pair of actions
+     *
+     * @return Axis id for getAxis()
+     */
+    public int defineAxis(String name, int negativeAction, int positiveAction) {
+        checkAction(negativeAction);
+        checkAction(positiveAction);
+        Integer existing = axisIds.get(name);
+        int id = existing != null ? existing : axisCount++;
+        if (id == axisValues.length) {
+            int capacity = axisValues.length * 2;
+            int[] newNegative = new int[capacity];
+            int[] newPositive = new int[capacity];
+            System.arraycopy(axisNegative, 0, newNegative, 0, id);
+            System.arraycopy(axisPositive, 0, newPositive, 0, id);
+            axisNegative = newNegative;
+            axisPositive = newPositive;
+            axisValues = new float[capacity];
+        }
+        axisNegative[id] = negativeAction;
+        axisPositive[id] = positiveAction;
+        axisIds.put(name, id);
+        bindingVersion++;
+        return id;
+    }
+
+    public void bind(int action, int keycode) {
+        checkAction(action);
+        checkKey(keycode);
+        masks[action * WORDS + (keycode >>> 6)] |= 1L << keycode;
+        bindingVersion++;
+    }
+
+    public void unbind(int action, int keycode) {
+        checkAction(action);
+        checkKey(keycode);
+        masks[action * WORDS + (keycode >>> 6)] &= ~(1L << keycode);
+        bindingVersion++;
+    }
+
+    public void clearBindings(int action) {
+        checkAction(action);
+        for (int w = 0; w < WORDS; w++) {
+            masks[action * WORDS + w] = 0L;
+        }
+        bindingVersion++;
+    }
+
+    public boolean isBound(int action, int keycode) {
+        checkAction(action);
+        checkKey(keycode);
+        return (masks[action * WORDS + (keycode >>> 6)] & (1L << keycode)) != 0;
+    }
+
+    /**
+     * @return Action id for a name, or -1 if no such action
+     */
+    public int getAction(String name) {
+        Integer id = actionIds.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * @return Axis id for a name, or -1 if no such axis
+     */
+    public int getAxisId(String name) {
+        Integer id = axisIds.get(name);
+        return id != null ? id : -1;
+    }
+
+    public String getActionName(int action) {
+        checkAction(action);
+        return actionNames.get(action);
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    int getBindingVersion() {
+        return bindingVersion;
+    }
+
+    InputActions copy() {
+        return new InputActions(this);
+    }
+
+    // --- PER-FRAME EVALUATION (called after each DynamicInput / InputHandoff snapshot) ---
+
+    void evaluate(long[] current, long[] previous) {
+        for (int a = 0; a < actionCount; a++) {
+            int base = a * WORDS;
+            long now = 0L;
+            long before = 0L;
+            for (int w = 0; w < WORDS; w++) {
+                long mask = masks[base + w];
+                now |= current[w] & mask;
+                before |= previous[w] & mask;
+            }
+
+            byte flags = 0;
+            if (now != 0) flags |= PRESSED;
+            if (now != 0 && before == 0) flags |= JUST_PRESSED;
+            if (now == 0 && before != 0) flags |= JUST_RELEASED;
+            state[a] = flags;
+        }
+
+        for (int i = 0; i < axisCount; i++) {
+            float value = 0f;
+            if ((state[axisPositive[i]] & PRESSED) != 0) value += 1f;
+            if ((state[axisNegative[i]] & PRESSED) != 0) value -= 1f;
+            axisValues[i] = value;
+        }
+    }
+
+    // --- QUERIES (read the evaluated state, no key polling) ---
+
+    public boolean isPressed(int action) {
+        return (state[action] & PRESSED) != 0;
+    }
+
+    public boolean isJustPressed(int action) {
+        return (state[action] & JUST_PRESSED) != 0;
+    }
+
+    public boolean isJustReleased(int action) {
+        return (state[action] & JUST_RELEASED) != 0;
+    }
+
+    /**
+     * @return -1, 0 or +1 for this frame
+     */
+    public float getAxis(int axis) {
+        return axisValues[axis];
+    }
+
+    private void checkAction(int action) {
+        if (action < 0 || action >= actionCount) {
+            throw new IllegalArgumentException("Unknown action id: " + action);
+        }
+    }
+
+    private static void checkKey(int keycode) {
+        if (keycode < 0 || keycode >= DynamicInput.KEY_COUNT) {
+            throw new IllegalArgumentException("Keycode out of range: " + keycode);
+        }
+    }
+}
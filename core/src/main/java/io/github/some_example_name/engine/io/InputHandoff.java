@@ -0,0 +1,121 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Per-tick input for a simulation running on its own thread.
+ *
+ * DynamicInput publishes its key snapshot here every frame (render thread)
+ * and the simulation thread takes one snapshot at the start of every tick,
+ * then evaluates its own copy of the actions from it. Scene updates thus
+ * only read state no other thread writes - the mirror of the transforms
+ * published the other way.
+ *
+ * Frame and tick rates differ, so frames are merged rather than swapped:
+ * a key down in any frame since the last tick is down for that tick (a
+ * tap between ticks is not lost), and a tick with no new frame sees the
+ * keys still held at the latest frame (a held key is not reported as
+ * pressed twice, and a tap shows as released). Merging touches the same
+ * words from both sides, so the hand-over is a short lock around a copy
+ * instead of a buffer swap.
+ */
+public final class InputHandoff {
+
+    private static final int WORDS = DynamicInput.WORDS;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock, written by the render thread
+    private final long[] latestKeys;       // Held at the latest frame, taps excluded
+    private final long[] mergedKeys;       // Every frame since the last tick, OR'ed
+    private boolean fresh;
+    private float latestMouseX;
+    private float latestMouseY;
+    private InputActions pendingActions;   // Rebound copy for the next tick
+    private int bindingVersion;
+
+    // Simulation thread only
+    long[] currentKeys;
+    long[] previousKeys;
+    private final Vector2 mousePosition;
+    private InputActions actions;
+
+    private volatile Thread consumer;
+
+    InputHandoff(InputActions bindings) {
+        latestKeys = new long[WORDS];
+        mergedKeys = new long[WORDS];
+        currentKeys = new long[WORDS];
+        previousKeys = new long[WORDS];
+        mousePosition = new Vector2();
+        actions = bindings.copy();
+        bindingVersion = bindings.getBindingVersion();
+    }
+
+    /**
+     * Add one frame's snapshot (render thread)
+     *
+     * @param keys The frame's snapshot, including keys tapped within it
+     * @param heldKeys Keys actually down at the end of the frame
+     */
+    void publish(long[] keys, long[] heldKeys, Vector2 mouse, InputActions bindings) {
+        synchronized (lock) {
+            for (int i = 0; i < WORDS; i++) {
+                latestKeys[i] = heldKeys[i];
+                mergedKeys[i] |= keys[i];
+            }
+            fresh = true;
+            latestMouseX = mouse.x;
+            latestMouseY = mouse.y;
+            if (bindings.getBindingVersion() != bindingVersion) {
+                pendingActions = bindings.copy();
+                bindingVersion = bindings.getBindingVersion();
+            }
+        }
+    }
+
+    /**
+     * Take this tick's snapshot. Call once at the start of every tick, on
+     * the simulation thread, before the scene update reads input.
+     */
+    public void consume() {
+        consumer = Thread.currentThread();
+
+        long[] oldPrevious = previousKeys;
+        previousKeys = currentKeys;
+        currentKeys = oldPrevious;
+
+        synchronized (lock) {
+            long[] source = fresh ? mergedKeys : latestKeys;
+            System.arraycopy(source, 0, currentKeys, 0, WORDS);
+            for (int i = 0; i < WORDS; i++) {
+                mergedKeys[i] = 0L;
+            }
+            fresh = false;
+            mousePosition.set(latestMouseX, latestMouseY);
+            if (pendingActions != null) {
+                actions = pendingActions;
+                pendingActions = null;
+            }
+        }
+
+        actions.evaluate(currentKeys, previousKeys);
+    }
+
+    /**
+     * @return Whether the calling thread is the one consuming ticks
+     */
+    boolean isConsumer() {
+        return Thread.currentThread() == consumer;
+    }
+
+    // --- QUERIES (simulation thread) ---
+
+    public InputActions getActions() {
+        return actions;
+    }
+
+    public Vector2 getMousePosition() {
+        return mousePosition;
+    }
+}
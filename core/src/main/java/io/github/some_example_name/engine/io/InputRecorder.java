@@ -0,0 +1,148 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes the DynamicInput event stream to a compact binary file.
+ *
+ * Layout: MAGIC (int), VERSION (byte), the input state when recording
+ * started, then records of one type byte plus a fixed payload. Events are
+ * grouped by frame: a FRAME record (carrying that frame's delta time)
+ * closes the events that arrived before the snapshot, so replay is
+ * frame-accurate rather than wall-clock-accurate.
+ *
+ * Start state: key words per set (byte), then the last snapshot's keys,
+ * the keys held and the keys pressed since the snapshot (that many longs
+ * each), then mouse x and y (short each). Replay starts from it, so keys
+ * already held when recording began are held in the replay too.
+ */
+public class InputRecorder implements Disposable {
+
+    static final int MAGIC = 0x44494E52; // "DINR"
+    static final byte VERSION = 2;
+
+    // Record types
+    static final byte FRAME = 0;            // float deltaTime
+    static final byte KEY_DOWN = 1;         // short keycode
+    static final byte KEY_UP = 2;           // short keycode
+    static final byte KEY_TYPED = 3;        // char character
+    static final byte TOUCH_DOWN = 4;       // short x, short y, byte pointer, byte button
+    static final byte TOUCH_UP = 5;         // short x, short y, byte pointer, byte button
+    static final byte TOUCH_DRAGGED = 6;    // short x, short y, byte pointer
+    static final byte MOUSE_MOVED = 7;      // short x, short y
+
+    private final DataOutputStream out;
+    private int frames;
+
+    /**
+     * @param snapshotKeys Keys in the input's current snapshot
+     * @param heldKeys Keys held right now
+     * @param pressedKeys Keys pressed since the snapshot (not yet in it)
+     * @param mouse Current pointer position
+     */
+    public InputRecorder(FileHandle file, long[] snapshotKeys, long[] heldKeys, long[] pressedKeys, Vector2 mouse) {
+        out = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(DynamicInput.WORDS);
+            writeKeys(snapshotKeys);
+            writeKeys(heldKeys);
+            writeKeys(pressedKeys);
+            out.writeShort((int) mouse.x);
+            out.writeShort((int) mouse.y);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not start input recording: " + file.path(), e);
+        }
+    }
+
+    private void writeKeys(long[] keys) throws IOException {
+        for (int i = 0; i < DynamicInput.WORDS; i++) {
+            out.writeLong(keys[i]);
+        }
+    }
+
+    void frame(float deltaTime) {
+        try {
+            out.writeByte(FRAME);
+            out.writeFloat(deltaTime);
+            frames++;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    void key(byte type, int keycode) {
+        try {
+            out.writeByte(type);
+            out.writeShort(keycode);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    void keyTyped(char character) {
+        try {
+            out.writeByte(KEY_TYPED);
+            out.writeChar(character);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    void touch(byte type, int x, int y, int pointer, int button) {
+        try {
+            out.writeByte(type);
+            out.writeShort(x);
+            out.writeShort(y);
+            out.writeByte(pointer);
+            out.writeByte(button);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    void touchDragged(int x, int y, int pointer) {
+        try {
+            out.writeByte(TOUCH_DRAGGED);
+            out.writeShort(x);
+            out.writeShort(y);
+            out.writeByte(pointer);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    void mouseMoved(int x, int y) {
+        try {
+            out.writeByte(MOUSE_MOVED);
+            out.writeShort(x);
+            out.writeShort(y);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Input recording failed", e);
+        }
+    }
+
+    /**
+     * @return Number of frames written so far
+     */
+    public int getFrameCount() {
+        return frames;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not finish input recording", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Plays back a file written by InputRecorder, one recorded frame per call.
+ *
+ * The whole recording is read into memory up front so playback never
+ * touches the disk mid-frame. Playback starts from the input state saved
+ * when recording began.
+ */
+public class InputReplay {
+
+    private final ByteBuffer data;
+    private int frame;
+
+    // Input state when recording started
+    private final long[] snapshotKeys;
+    private final long[] heldKeys;
+    private final long[] pressedKeys;
+    private final int mouseX;
+    private final int mouseY;
+
+    public InputReplay(FileHandle file) {
+        data = ByteBuffer.wrap(file.readBytes());
+        if (data.remaining() < 5 || data.getInt() != InputRecorder.MAGIC) {
+            throw new GdxRuntimeException("Not an input recording: " + file.path());
+        }
+        byte version = data.get();
+        if (version != InputRecorder.VERSION) {
+            throw new GdxRuntimeException("Unsupported input recording version " + version + ": " + file.path());
+        }
+        if (data.remaining() < 1 || data.get() != DynamicInput.WORDS
+                || data.remaining() < 3 * DynamicInput.WORDS * 8 + 4) {
+            throw new GdxRuntimeException("Input recording has a different key range: " + file.path());
+        }
+        snapshotKeys = readKeys();
+        heldKeys = readKeys();
+        pressedKeys = readKeys();
+        mouseX = data.getShort();
+        mouseY = data.getShort();
+    }
+
+    private long[] readKeys() {
+        long[] keys = new long[DynamicInput.WORDS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = data.getLong();
+        }
+        return keys;
+    }
+
+    /**
+     * Put the input back into the state it was in when recording started
+     */
+    void restoreStartState(DynamicInput input) {
+        input.applyStartState(snapshotKeys, heldKeys, pressedKeys, mouseX, mouseY);
+    }
+
+    /**
+     * Feed the next recorded frame's events into the input
+     *
+     * @return The recorded delta time of that frame, or -1 if the recording is finished
+     */
+    float playFrame(DynamicInput input) {
+        while (data.hasRemaining()) {
+            byte type = data.get();
+            switch (type) {
+                case InputRecorder.FRAME:
+                    frame++;
+                    return data.getFloat();
+                case InputRecorder.KEY_DOWN:
+                    input.applyKeyDown(data.getShort());
+                    break;
+                case InputRecorder.KEY_UP:
+                    input.applyKeyUp(data.getShort());
+                    break;
+                case InputRecorder.KEY_TYPED:
+                    input.applyKeyTyped(data.getChar());
+                    break;
+                case InputRecorder.TOUCH_DOWN:
+                case InputRecorder.TOUCH_UP: {
+                    short x = data.getShort();
+                    short y = data.getShort();
+                    data.get(); // pointer
+                    data.get(); // button
+                    if (type == InputRecorder.TOUCH_DOWN) {
+                        input.applyTouchDown(x, y);
+                    } else {
+                        input.applyPointer(x, y);
+                    }
+                    break;
+                }
+                case InputRecorder.TOUCH_DRAGGED: {
+                    short x = data.getShort();
+                    short y = data.getShort();
+                    data.get(); // pointer
+                    input.applyPointer(x, y);
+                    break;
+                }
+                case InputRecorder.MOUSE_MOVED:
+                    input.applyPointer(data.getShort(), data.getShort());
+                    break;
+                default:
+                    throw new GdxRuntimeException("Corrupt input recording: unknown record type " + type);
+            }
+        }
+        return -1f;
+    }
+
+    public boolean isFinished() {
+        return !data.hasRemaining();
+    }
+
+    /**
+     * @return Number of frames played so far
+     */
+    public int getFrame() {
+        return frame;
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.audio.Music;
+
+/**
+ * Background music with crossfades, driven once per frame.
+ *
+ * Tracks are opened by the asset cache's worker thread, so a switch only
+ * begins once the new track is loaded; until then the old one keeps
+ * playing. The outgoing track fades out while the new one fades in. Each
+ * playing track holds a cache reference, released a frame after it goes
+ * silent rather than in the frame that requested the switch; the cache
+ * disposes it later, on the render thread, if it needs the space (the
+ * libGDX audio backends aren't thread-safe).
+ */
+class MusicMixer {
+
+    private final AssetCache assets;
+
+    // Incoming / playing track
+    private Music current;
+    private String currentName;
+    private float currentLevel;             // Fade level 0..1
+    private float fadeInSeconds;
+
+    // Outgoing track
+    private Music outgoing;
+    private String outgoingName;
+    private float outgoingLevel;
+    private float fadeOutSeconds;
+
+    // Requested but still loading
+    private String pendingName;
+    private float pendingFade;
+
+    // Silent track whose reference is released on the next update
+    private String toRelease;
+
+    MusicMixer(AssetCache assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Switch to a track, crossfading over fadeSeconds (0 = cut)
+     */
+    void play(String name, float fadeSeconds) {
+        if (name.equals(currentName)) {
+            // Already playing: also cancels a switch still waiting to load
+            pendingName = null;
+            return;
+        }
+        pendingName = name;
+        pendingFade = fadeSeconds;
+        if (assets.isLoaded(name)) {
+            begin();
+        }
+    }
+
+    /**
+     * Fade the current track out (0 = stop now); drops any pending switch
+     */
+    void stop(float fadeSeconds) {
+        pendingName = null;
+        if (current != null) {
+            retire(fadeSeconds);
+        }
+        if (fadeSeconds <= 0f && outgoing != null) {
+            silence();
+        }
+    }
+
+    void update(float deltaTime, float volume) {
+        // Release last frame's silenced track first, then start any work for this frame
+        if (toRelease != null) {
+            assets.release(toRelease);
+            toRelease = null;
+        }
+
+        if (pendingName != null && assets.isLoaded(pendingName)) {
+            begin();
+        }
+
+        if (current != null && currentLevel < 1f) {
+            currentLevel = fadeInSeconds > 0f ? Math.min(1f, currentLevel + deltaTime / fadeInSeconds) : 1f;
+        }
+        if (current != null) {
+            current.setVolume(volume * currentLevel);
+        }
+
+        if (outgoing != null) {
+            outgoingLevel = fadeOutSeconds > 0f ? outgoingLevel - deltaTime / fadeOutSeconds : 0f;
+            if (outgoingLevel <= 0f) {
+                silence();
+            } else {
+                outgoing.setVolume(volume * outgoingLevel);
+            }
+        }
+    }
+
+    void setVolume(float volume) {
+        if (current != null) {
+            current.setVolume(volume * currentLevel);
+        }
+        if (outgoing != null) {
+            outgoing.setVolume(volume * outgoingLevel);
+        }
+    }
+
+    /**
+     * Stop everything immediately and release every reference
+     */
+    void stopAll() {
+        pendingName = null;
+        if (current != null) {
+            current.stop();
+            assets.release(currentName);
+            current = null;
+            currentName = null;
+        }
+        if (outgoing != null) {
+            outgoing.stop();
+            assets.release(outgoingName);
+            outgoing = null;
+            outgoingName = null;
+        }
+        if (toRelease != null) {
+            assets.release(toRelease);
+            toRelease = null;
+        }
+    }
+
+    String getCurrentName() {
+        return currentName;
+    }
+
+    String getPendingName() {
+        return pendingName;
+    }
+
+    boolean isCrossfading() {
+        return outgoing != null;
+    }
+
+    private void begin() {
+        String name = pendingName;
+        float fade = pendingFade;
+        pendingName = null;
+
+        if (name.equals(outgoingName)) {
+            // Switching back to a track that is still fading out: swap the two
+            // so it fades back in from where it is
+            Music back = outgoing;
+            float backLevel = outgoingLevel;
+            outgoing = current;
+            outgoingName = currentName;
+            outgoingLevel = currentLevel;
+            fadeOutSeconds = fade;
+            current = back;
+            currentLevel = backLevel;
+            if (outgoing == null) {
+                outgoingName = null;
+            }
+        } else {
+            Music track = assets.get(name, Music.class);
+            if (track == current) {
+                // Never hold one Music in both slots - the two fades would fight
+                // over its volume and silence() would stop the playing track
+                return;
+            }
+            if (current != null) {
+                retire(fade);
+            }
+            current = track;
+            assets.retain(name);
+            currentLevel = fade > 0f ? 0f : 1f;
+            current.setLooping(true);
+            current.setVolume(0f);
+            current.play();
+        }
+        currentName = name;
+        fadeInSeconds = fade;
+    }
+
+    /**
+     * Move the current track to the outgoing slot
+     */
+    private void retire(float fadeSeconds) {
+        if (outgoing != null) {
+            // A third track in quick succession: cut the oldest
+            silence();
+        }
+        outgoing = current;
+        outgoingName = currentName;
+        outgoingLevel = currentLevel;
+        fadeOutSeconds = fadeSeconds;
+        current = null;
+        currentName = null;
+    }
+
+    private void silence() {
+        outgoing.stop();
+        if (toRelease != null) {
+            assets.release(toRelease);
+        }
+        toRelease = outgoingName;
+        outgoing = null;
+        outgoingName = null;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * AudioOutput that plays nothing and never touches Gdx.audio or the
+ * file system, for headless runs.
+ */
+public class NullAudioOutput extends AudioOutput {
+
+    public NullAudioOutput() {
+        // Private, empty cache: nothing is ever loaded through it
+        super(new AssetCache());
+    }
+
+    @Override
+    public void preload(FileHandle manifest) {
+    }
+
+    @Override
+    public void preloadSound(String fileName) {
+    }
+
+    @Override
+    public void preloadMusic(String fileName) {
+    }
+
+    @Override
+    public void playSound(String fileName) {
+    }
+
+    @Override
+    public long playSound(String fileName, float gain) {
+        return -1;
+    }
+
+    @Override
+    public long playSoundAt(String fileName, float x, float y, float gain) {
+        return -1;
+    }
+
+    @Override
+    public boolean setSoundPosition(long id, float x, float y) {
+        return false;
+    }
+
+    @Override
+    public boolean update(float deltaTime) {
+        return true;
+    }
+
+    @Override
+    public void playMusic(String fileName) {
+    }
+
+    @Override
+    public void playMusic(String fileName, float fadeSeconds) {
+    }
+
+    @Override
+    public void stopMusic() {
+    }
+
+    @Override
+    public void stopMusic(float fadeSeconds) {
+    }
+
+    @Override
+    public void setVolume(float v) {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
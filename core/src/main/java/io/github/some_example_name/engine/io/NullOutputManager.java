@@ -0,0 +1,62 @@
+package io.github.some_example_name.engine.io;
+
+import io.github.some_example_name.engine.entity.GameEntity;
+import io.github.some_example_name.engine.movement.SpatialIndex;
+import io.github.some_example_name.engine.particles.ParticleSystem;
+import io.github.some_example_name.engine.tilemap.TileMapRenderer;
+
+/**
+ * OutputManager that draws nothing, for running without a GL context
+ * (headless benchmarks, server-side simulation).
+ *
+ * Never creates a batch, camera or atlas, so getAtlas() returns null and
+ * all render counters stay at 0.
+ */
+public class NullOutputManager extends OutputManager {
+
+    public NullOutputManager() {
+        // Private, empty cache: nothing is ever loaded through it
+        super(new AssetCache());
+    }
+
+    @Override
+    public void initialize() {
+        // No GL context to render into
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void beginFrame() {
+    }
+
+    @Override
+    public void drawEntity(GameEntity e) {
+    }
+
+    @Override
+    public void drawEntity(GameEntity e, int layer) {
+    }
+
+    @Override
+    public void drawTileMap(TileMapRenderer tileMap) {
+    }
+
+    @Override
+    public void drawParticles(ParticleSystem particles) {
+    }
+
+    @Override
+    public void drawVisible(SpatialIndex index, float margin, int layer) {
+    }
+
+    @Override
+    public void endFrame() {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
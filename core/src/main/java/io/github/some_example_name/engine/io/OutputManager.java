@@ -4,13 +4,25 @@ package io.github.some_example_name.engine.io;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // IMPORT THE ENTITY CLASS (See file #5 below)
+import io.github.some_example_name.engine.animation.AnimationLibrary;
+import io.github.some_example_name.engine.animation.Animator;
 import io.github.some_example_name.engine.entity.GameEntity;
+import io.github.some_example_name.engine.movement.SpatialIndex;
+import io.github.some_example_name.engine.particles.ParticleSystem;
+import io.github.some_example_name.engine.tilemap.TileMapRenderer;
 
 public class OutputManager implements Disposable {
 
@@ -18,10 +30,64 @@ public class OutputManager implements Disposable {
     private OrthographicCamera camera;
     private Viewport viewport;
 
+    // Sprites are queued during the frame and sorted by layer/texture in endFrame()
+    private final DrawQueue drawQueue = new DrawQueue();
+    private int renderCalls;
+    private int frameRenderCalls;       // Summed over every batch end() and tile map this frame
+
+    // Particle systems to draw over the sprites at endFrame()
+    private final List<ParticleSystem> particleSystems = new ArrayList<>();
+
+    // Shared texture pages for loose images and generated sprites
+    private RuntimeAtlas atlas;
+
+    // Standalone textures (too big or too rare for the atlas) come from the shared cache
+    private final AssetCache assets;
+    private String backdrop;            // Held while set; drawn under everything
+
+    // Shared animation definitions and per-entity playback, advanced every beginFrame()
+    private final AnimationLibrary animations = new AnimationLibrary();
+    private final Animator animator = new Animator(animations, 256);
+
+    // Camera bounds in world space, refreshed every beginFrame()
+    private float viewLeft;
+    private float viewBottom;
+    private float viewRight;
+    private float viewTop;
+
+    // Culling counters (current frame, and last completed frame)
+    private int submittedSprites;
+    private int culledSprites;
+    private int lastSubmittedSprites;
+    private int lastCulledSprites;
+
+    // HUD text, drawn in fixed virtual-resolution coordinates after the world
+    private final TextLayer textLayer = new TextLayer();
+    private final Matrix4 hudProjection = new Matrix4().setToOrtho2D(0, 0, WORLD_WIDTH, WORLD_HEIGHT);
+
+    // Optional off-screen rendering at a frame-time driven resolution
+    private DynamicResolution dynamicResolution;
+
+    // Optional per-frame instrumentation (off by default)
+    private final RenderStats stats = new RenderStats();
+    private boolean statsOverlay;
+    private ShapeRenderer overlayShapes;
+    private float overlayBudgetMs = 1000f / 60f;
+
+    // Reused result buffer for drawVisible()
+    private GameEntity[] visibleScratch = new GameEntity[256];
+
     // Virtual resolution (Game logic thinks the screen is this size)
     private static final float WORLD_WIDTH = 800;
     private static final float WORLD_HEIGHT = 600;
 
+    /**
+     * @param assets Cache that standalone textures are loaded through
+     */
+    public OutputManager(AssetCache assets) {
+        this.assets = assets;
+    }
+
     public void initialize() {
         batch = new SpriteBatch();
         camera = new OrthographicCamera();
@@ -32,6 +98,69 @@ public class OutputManager implements Disposable {
         viewport.apply();
 
         camera.position.set(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, 0);
+
+        // Pack everything in the generated asset list into shared pages
+        atlas = new RuntimeAtlas();
+        atlas.load(assets.resolve("assets.txt"), assets.getResolver());
+    }
+
+    /**
+     * Shared atlas - entities should take their regions from here rather
+     * than creating their own textures.
+     */
+    public RuntimeAtlas getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * A standalone texture from the shared asset cache, queued on first use.
+     * Retain it through the cache to keep it past this frame.
+     *
+     * @return The texture, or null while it is loading
+     */
+    public Texture getTexture(String path) {
+        return assets.get(path, Texture.class);
+    }
+
+    /**
+     * Full-view image drawn under the tile map and sprites every frame
+     * (nothing is drawn until it has loaded). The texture is held in the
+     * asset cache until the backdrop changes.
+     *
+     * @param path Image path, or null for none
+     */
+    public void setBackdrop(String path) {
+        if (path != null && path.equals(backdrop)) {
+            return;
+        }
+        if (backdrop != null) {
+            assets.release(backdrop);
+        }
+        backdrop = path;
+        if (path != null) {
+            assets.load(path, Texture.class);
+            if (assets.contains(path)) {
+                assets.retain(path);
+            } else {
+                // Failed before; nothing to hold
+                backdrop = null;
+            }
+        }
+    }
+
+    /**
+     * Shared animation definitions (define sequences once, by name)
+     */
+    public AnimationLibrary getAnimations() {
+        return animations;
+    }
+
+    /**
+     * Playback state for animated entities. Give each entity a handle from
+     * create() and return it from GameEntity.getAnimationHandle().
+     */
+    public Animator getAnimator() {
+        return animator;
     }
 
     public void resize(int width, int height) {
@@ -41,37 +170,301 @@ public class OutputManager implements Disposable {
     }
 
     public void beginFrame() {
+        stats.beginFrame();
+
         // Clear Screen Black
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        if (dynamicResolution != null) {
+            // Draw the world off-screen; endFrame() scales it up to the window
+            dynamicResolution.begin(System.nanoTime(), viewport.getScreenWidth(), viewport.getScreenHeight());
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        }
+
+        // Animations are cosmetic, so they run on render time
+        animator.update(Gdx.graphics.getDeltaTime());
+
         camera.update();
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
+
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        viewLeft = camera.position.x - halfWidth;
+        viewRight = camera.position.x + halfWidth;
+        viewBottom = camera.position.y - halfHeight;
+        viewTop = camera.position.y + halfHeight;
+        submittedSprites = 0;
+        culledSprites = 0;
+        frameRenderCalls = 0;
+
+        if (backdrop != null) {
+            Texture texture = assets.get(backdrop, Texture.class);
+            if (texture != null) {
+                batch.draw(texture, viewLeft, viewBottom, viewRight - viewLeft, viewTop - viewBottom);
+            }
+        }
     }
 
     /**
-     * Draws any object that inherits from GameEntity
+     * Draws any object that inherits from GameEntity (on layer 0)
      */
     public void drawEntity(GameEntity e) {
-        if (e.getTexture() != null) {
-            batch.draw(e.getTexture(),
-                    e.getPosition().x,
-                    e.getPosition().y,
-                    e.getWidth(),
-                    e.getHeight());
+        drawEntity(e, 0);
+    }
+
+    /**
+     * Queues any object that inherits from GameEntity.
+     * Lower layers are drawn first; within a layer, sprites are grouped by
+     * texture so the batch flushes as rarely as possible.
+     */
+    public void drawEntity(GameEntity e, int layer) {
+        int animation = e.getAnimationHandle();
+        TextureRegion region = animation >= 0 ? animator.getFrame(animation) : e.getTexture();
+        if (region != null) {
+            // Skip sprites entirely outside the camera view
+            float x = e.getPosition().x;
+            float y = e.getPosition().y;
+            if (x > viewRight || y > viewTop
+                    || x + e.getWidth() < viewLeft || y + e.getHeight() < viewBottom) {
+                culledSprites++;
+                return;
+            }
+            submittedSprites++;
+            drawQueue.add(region, x, y, e.getWidth(), e.getHeight(), layer);
+        }
+    }
+
+    /**
+     * Draws the visible chunks of a tile map. Sprites are queued until
+     * endFrame(), so the map always ends up underneath them.
+     */
+    public void drawTileMap(TileMapRenderer tileMap) {
+        boolean drawing = batch.isDrawing();
+        if (drawing) {
+            // begin() resets the batch's count, so bank it first
+            batch.end();
+            frameRenderCalls += batch.renderCalls;
+        }
+        tileMap.render(camera.combined, viewLeft, viewBottom, viewRight, viewTop);
+        frameRenderCalls += tileMap.getRenderCalls();
+        if (drawing) {
+            batch.begin();
+        }
+    }
+
+    /**
+     * Draws a particle system on top of this frame's sprites. Its live
+     * particles go to the batch in one call at endFrame(), after the sprite
+     * queue, culled against the view.
+     */
+    public void drawParticles(ParticleSystem particles) {
+        particleSystems.add(particles);
+    }
+
+    /**
+     * Draws only the entities a spatial query finds near the view, instead of
+     * iterating everything. The index must be rebuilt this frame.
+     *
+     * @param index Spatial index over the drawable entities
+     * @param margin Largest sprite half-size, so sprites centred just off-screen still draw
+     * @param layer Draw layer for all of them
+     */
+    public void drawVisible(SpatialIndex index, float margin, int layer) {
+        int found;
+        while ((found = index.queryRect(viewLeft - margin, viewBottom - margin,
+                viewRight + margin, viewTop + margin, visibleScratch)) == visibleScratch.length) {
+            visibleScratch = new GameEntity[visibleScratch.length * 2];
+        }
+        for (int i = 0; i < found; i++) {
+            drawEntity(visibleScratch[i], layer);
+            visibleScratch[i] = null;
         }
+        // Everything the query skipped was culled too
+        culledSprites += index.size() - found;
     }
 
     public void endFrame() {
         if (batch.isDrawing()) {
+            drawQueue.flush(batch);
+            for (int i = 0; i < particleSystems.size(); i++) {
+                particleSystems.get(i).draw(batch, viewLeft, viewBottom, viewRight, viewTop);
+            }
             batch.end();
+            frameRenderCalls += batch.renderCalls;
+
+            if (dynamicResolution != null) {
+                Texture frame = dynamicResolution.end();
+                viewport.apply();
+                batch.begin();
+                batch.draw(frame, viewLeft, viewBottom, viewRight - viewLeft, viewTop - viewBottom, 0f, 0f, 1f, 1f);
+                batch.end();
+                frameRenderCalls += batch.renderCalls;
+            }
+
+            if (!textLayer.isEmpty()) {
+                batch.setProjectionMatrix(hudProjection);
+                batch.begin();
+                textLayer.draw(batch);
+                batch.end();
+                frameRenderCalls += batch.renderCalls;
+            }
+        }
+        renderCalls = frameRenderCalls;
+        particleSystems.clear();
+        lastSubmittedSprites = submittedSprites;
+        lastCulledSprites = culledSprites;
+
+        stats.endFrame(renderCalls, lastSubmittedSprites, lastCulledSprites, drawQueue.getTextureSwitches());
+        if (statsOverlay) {
+            drawStatsOverlay();
+        }
+    }
+
+    // --- HUD TEXT ---
+
+    /**
+     * Screen-space text (800x600 virtual coordinates, unaffected by the
+     * camera). Labels only re-lay out when their text changes.
+     */
+    public TextLayer getTextLayer() {
+        return textLayer;
+    }
+
+    // --- DYNAMIC RESOLUTION ---
+
+    /**
+     * Render the world at a reduced internal resolution when frames run
+     * over budget, scaled back up to the window. Overlays still draw at
+     * full resolution.
+     *
+     * @param budgetMs Frame time to hold, e.g. 16.67 for 60 FPS
+     * @param minScale Lowest resolution allowed, as a fraction of the window
+     */
+    public void enableDynamicResolution(float budgetMs, float minScale) {
+        disableDynamicResolution();
+        dynamicResolution = new DynamicResolution(budgetMs, minScale);
+    }
+
+    public void disableDynamicResolution() {
+        if (dynamicResolution != null) {
+            dynamicResolution.dispose();
+            dynamicResolution = null;
         }
     }
 
+    /**
+     * @return Current internal resolution scale (1 when dynamic resolution is off)
+     */
+    public float getResolutionScale() {
+        return dynamicResolution != null ? dynamicResolution.getScale() : 1f;
+    }
+
+    /**
+     * @return Controller state, or null when dynamic resolution is off
+     */
+    public DynamicResolution getDynamicResolution() {
+        return dynamicResolution;
+    }
+
+    /**
+     * @return Centre of the camera view in world units (as of the last beginFrame)
+     */
+    public float getViewCenterX() {
+        return (viewLeft + viewRight) / 2f;
+    }
+
+    public float getViewCenterY() {
+        return (viewBottom + viewTop) / 2f;
+    }
+
+    // --- INSTRUMENTATION ---
+
+    /**
+     * Per-frame render statistics. Collection is off until enabled here or
+     * through setStatsOverlay().
+     */
+    public RenderStats getRenderStats() {
+        return stats;
+    }
+
+    /**
+     * Show a frame time graph in the bottom-left of the view. Turns stats
+     * collection on; turning the overlay off leaves collection as it is.
+     *
+     * @param budgetMs Frame time budget marked on the graph
+     */
+    public void setStatsOverlay(boolean visible, float budgetMs) {
+        statsOverlay = visible;
+        overlayBudgetMs = budgetMs;
+        if (visible) {
+            stats.setEnabled(true);
+        }
+    }
+
+    public boolean isStatsOverlayVisible() {
+        return statsOverlay;
+    }
+
+    private void drawStatsOverlay() {
+        if (overlayShapes == null) {
+            overlayShapes = new ShapeRenderer();
+        }
+        overlayShapes.setProjectionMatrix(camera.combined);
+        float width = (viewRight - viewLeft) * 0.3f;
+        float height = (viewTop - viewBottom) * 0.15f;
+        stats.drawGraph(overlayShapes, viewLeft + 8f, viewBottom + 8f, width, height, overlayBudgetMs);
+    }
+
+    // --- FRAME STATISTICS (last completed frame) ---
+
+    /**
+     * @return Draw calls issued last frame (every batch pass plus tile map caches)
+     */
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+
+    /**
+     * @return Sprites that passed the view check last frame
+     */
+    public int getSubmittedSprites() {
+        return lastSubmittedSprites;
+    }
+
+    /**
+     * @return Sprites skipped last frame for lying outside the view
+     */
+    public int getCulledSprites() {
+        return lastCulledSprites;
+    }
+
+    /**
+     * @return Texture switches last frame after sorting
+     */
+    public int getTextureSwitches() {
+        return drawQueue.getTextureSwitches();
+    }
+
+    /**
+     * @return Texture switches last frame would have cost in submission order
+     */
+    public int getTextureSwitchesUnsorted() {
+        return drawQueue.getTextureSwitchesUnsorted();
+    }
+
     @Override
     public void dispose() {
+        setBackdrop(null);
         if (batch != null)
             batch.dispose();
+        textLayer.dispose();
+        if (atlas != null)
+            atlas.dispose();
+        if (overlayShapes != null)
+            overlayShapes.dispose();
+        disableDynamicResolution();
+        stats.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of a packed asset archive (assets.pak, written by the
+ * packAssets Gradle task).
+ *
+ * The whole archive is memory-mapped once, so opening an asset is a table
+ * lookup instead of a file open, and its bytes are served straight from
+ * the mapping (see ArchiveFileHandle). Layout, big-endian:
+ *
+ *   int   magic ('GPAK')
+ *   int   version (1)
+ *   int   entry count
+ *   per entry: int name length, UTF-8 name bytes, long offset, long length
+ *   file data, at the offsets given (from the start of the archive)
+ */
+public class PackedArchive {
+
+    public static final String DEFAULT_NAME = "assets.pak";
+
+    private static final int MAGIC = 0x4750414B;
+    private static final int VERSION = 1;
+
+    private final ByteBuffer data;
+    private final String path;
+
+    // Index: name -> entry number, with offsets/lengths in parallel arrays
+    private final Map<String, Integer> entries;
+    private final String[] names;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private PackedArchive(ByteBuffer data, String path) {
+        this.data = data;
+        this.path = path;
+        data.order(ByteOrder.BIG_ENDIAN);
+
+        if (data.remaining() < 12 || data.getInt(0) != MAGIC) {
+            throw new GdxRuntimeException("Not a packed asset archive: " + path);
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new GdxRuntimeException("Unsupported archive version " + data.getInt(4) + ": " + path);
+        }
+        int count = data.getInt(8);
+        entries = new HashMap<>(count * 2);
+        names = new String[count];
+        offsets = new int[count];
+        lengths = new int[count];
+
+        int position = 12;
+        for (int i = 0; i < count; i++) {
+            int nameLength = data.getInt(position);
+            byte[] name = new byte[nameLength];
+            for (int b = 0; b < nameLength; b++) {
+                name[b] = data.get(position + 4 + b);
+            }
+            position += 4 + nameLength;
+            long offset = data.getLong(position);
+            long length = data.getLong(position + 8);
+            position += 16;
+            if (offset < 0 || length < 0 || offset + length > data.capacity()) {
+                throw new GdxRuntimeException("Corrupt archive entry " + i + ": " + path);
+            }
+            names[i] = new String(name, StandardCharsets.UTF_8);
+            offsets[i] = (int) offset;
+            lengths[i] = (int) length;
+            entries.put(names[i], i);
+        }
+    }
+
+    /**
+     * Map an archive file. It must be a real file on disk (not inside a jar).
+     */
+    public static PackedArchive open(FileHandle file) {
+        if (file.length() > Integer.MAX_VALUE) {
+            throw new GdxRuntimeException("Archive too large to map: " + file.path());
+        }
+        return new PackedArchive(file.map(), file.path());
+    }
+
+    // --- LOOKUP ---
+
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * @return A handle reading from the archive, or null if the name isn't in it
+     */
+    public ArchiveFileHandle get(String name) {
+        Integer index = entries.get(name);
+        return index != null ? new ArchiveFileHandle(this, name, index) : null;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    int length(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * @return Read-only view of one entry's bytes; shares the mapping, nothing is copied
+     */
+    ByteBuffer slice(int index) {
+        ByteBuffer view = data.duplicate();
+        ((Buffer) view).limit(offsets[index] + lengths[index]);
+        ((Buffer) view).position(offsets[index]);
+        return view.slice().asReadOnlyBuffer();
+    }
+
+    // --- WRITING ---
+
+    /**
+     * Pack files from a folder into an archive, in the same layout the
+     * packAssets Gradle task writes. Used by tools and benchmarks; the game
+     * build uses the Gradle task.
+     *
+     * @param names Paths relative to the folder, '/' separated
+     */
+    public static void write(File folder, List<String> names, File archive) throws IOException {
+        byte[][] nameBytes = new byte[names.size()][];
+        long offset = 12;
+        for (int i = 0; i < names.size(); i++) {
+            nameBytes[i] = names.get(i).getBytes(StandardCharsets.UTF_8);
+            offset += 4 + nameBytes[i].length + 16;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(archive)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                long length = new File(folder, names.get(i)).length();
+                out.writeInt(nameBytes[i].length);
+                out.write(nameBytes[i]);
+                out.writeLong(offset);
+                out.writeLong(length);
+                offset += length;
+            }
+            byte[] buffer = new byte[64 * 1024];
+            for (String name : names) {
+                try (InputStream in = new FileInputStream(new File(folder, name))) {
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Startup benchmark: loose asset files vs. one memory-mapped archive.
+ *
+ * Writes a few thousand small files (the shape of a typical asset folder:
+ * sprites, sounds, data) into a temp folder, packs them, then reads every
+ * file the way startup does - existence check, then the whole file - from
+ * loose files, from the archive with readBytes(), and from the archive with
+ * map() (no copy). Every reader sums every byte it gets, so each timing
+ * includes touching the data, and opening the archive is part of each
+ * archive timing.
+ *
+ * The OS page cache is warm for all runs, so this measures the per-file
+ * syscall overhead only; on a cold start the archive also saves the seeks
+ * between scattered files.
+ */
+public class PackedArchiveDemo {
+
+    private static final int FILE_COUNT = 4000;
+    private static final int MIN_SIZE = 512;
+    private static final int MAX_SIZE = 16 * 1024;
+    private static final int ROUNDS = 7;
+
+    public static void main(String[] args) throws IOException {
+        File folder = createTempFolder();
+        List<String> names = writeFiles(folder);
+        File archiveFile = new File(folder, PackedArchive.DEFAULT_NAME);
+        PackedArchive.write(folder, names, archiveFile);
+
+        System.out.println("=== Packed Archive Startup Benchmark (" + FILE_COUNT + " files, "
+                + archiveFile.length() / 1024 + " KB) ===\n");
+
+        long expected = readLoose(folder, names);
+        double[] loose = new double[ROUNDS];
+        double[] packed = new double[ROUNDS];
+        double[] mapped = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            check(expected, readLoose(folder, names));
+            loose[round] = (System.nanoTime() - start) / 1_000_000.0;
+
+            start = System.nanoTime();
+            check(expected, readPacked(archiveFile, names));
+            packed[round] = (System.nanoTime() - start) / 1_000_000.0;
+
+            start = System.nanoTime();
+            check(expected, readMapped(archiveFile, names));
+            mapped[round] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+
+        double looseMs = median(loose);
+        double packedMs = median(packed);
+        double mappedMs = median(mapped);
+        System.out.printf("Loose files:            %.2f ms%n", looseMs);
+        System.out.printf("Archive, readBytes():   %.2f ms  (%.1fx)%n", packedMs, looseMs / packedMs);
+        System.out.printf("Archive, map():         %.2f ms  (%.1fx)%n", mappedMs, looseMs / mappedMs);
+        System.out.println("(median of " + ROUNDS + " rounds, " + totalSize(folder, names) / 1024
+                + " KB read per round)");
+
+        deleteFolder(folder);
+    }
+
+    // --- READERS (each returns the sum of all bytes read, to check they agree) ---
+
+    private static long readLoose(File folder, List<String> names) {
+        long total = 0;
+        for (String name : names) {
+            FileHandle file = new FileHandle(new File(folder, name));
+            if (file.exists()) {
+                total += sum(file.readBytes());
+            }
+        }
+        return total;
+    }
+
+    private static long readPacked(File archiveFile, List<String> names) {
+        PackedArchive archive = PackedArchive.open(new FileHandle(archiveFile));
+        long total = 0;
+        for (String name : names) {
+            FileHandle file = archive.get(name);
+            if (file.exists()) {
+                total += sum(file.readBytes());
+            }
+        }
+        return total;
+    }
+
+    private static long readMapped(File archiveFile, List<String> names) {
+        PackedArchive archive = PackedArchive.open(new FileHandle(archiveFile));
+        long total = 0;
+        for (String name : names) {
+            total += sum(archive.get(name).map());
+        }
+        return total;
+    }
+
+    private static long sum(byte[] bytes) {
+        long sum = 0;
+        for (byte b : bytes) {
+            sum += b & 0xFF;
+        }
+        return sum;
+    }
+
+    private static long sum(ByteBuffer bytes) {
+        long sum = 0;
+        for (int i = bytes.position(), end = bytes.limit(); i < end; i++) {
+            sum += bytes.get(i) & 0xFF;
+        }
+        return sum;
+    }
+
+    // --- SETUP ---
+
+    private static List<String> writeFiles(File folder) throws IOException {
+        Random random = new Random(42);
+        String[] kinds = { "sprites", "sounds", "data" };
+        List<String> names = new ArrayList<>(FILE_COUNT);
+        for (int i = 0; i < FILE_COUNT; i++) {
+            String name = kinds[i % kinds.length] + "/file" + i + ".bin";
+            byte[] bytes = new byte[MIN_SIZE + random.nextInt(MAX_SIZE - MIN_SIZE)];
+            random.nextBytes(bytes);
+            File file = new File(folder, name);
+            file.getParentFile().mkdirs();
+            try (OutputStream out = new FileOutputStream(file)) {
+                out.write(bytes);
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static File createTempFolder() throws IOException {
+        File folder = File.createTempFile("packed-archive", "");
+        if (!folder.delete() || !folder.mkdirs()) {
+            throw new IOException("Could not create " + folder);
+        }
+        return folder;
+    }
+
+    private static void deleteFolder(File folder) {
+        File[] children = folder.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteFolder(child);
+            }
+        }
+        folder.delete();
+    }
+
+    private static long totalSize(File folder, List<String> names) {
+        long total = 0;
+        for (String name : names) {
+            total += new File(folder, name).length();
+        }
+        return total;
+    }
+
+    private static void check(long expected, long actual) {
+        if (expected != actual) {
+            throw new IllegalStateException("Read bytes summing to " + actual + ", expected " + expected);
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,317 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Per-frame render statistics with a rolling history.
+ *
+ * OutputManager brackets every frame with beginFrame()/endFrame(). While
+ * disabled both return after a single boolean check, so leaving the calls
+ * in costs nothing measurable. While enabled each frame records CPU time,
+ * batch render calls, sprite counts and - if a GL context exists - the
+ * GLProfiler counters (GL calls, draw calls, texture binds, shader switches,
+ * vertices). Samples live in fixed-size ring buffers, oldest overwritten.
+ */
+public class RenderStats {
+
+    public static final int DEFAULT_HISTORY = 240;
+
+    private static final String CSV_HEADER = "frame,frame_ms,render_ms,render_calls,gl_calls,"
+            + "draw_calls,texture_binds,shader_switches,vertices,sprites,culled,texture_switches\n";
+
+    private boolean enabled;
+    private GLProfiler profiler;         // null without a GL context
+
+    // Ring buffers (index = frame % capacity)
+    private final int capacity;
+    private final long[] frameIds;
+    private final float[] frameMs;       // Time since the previous frame began
+    private final float[] renderMs;      // CPU time between beginFrame and endFrame
+    private final int[] renderCalls;
+    private final int[] glCalls;
+    private final int[] drawCalls;
+    private final int[] textureBinds;
+    private final int[] shaderSwitches;
+    private final int[] vertices;
+    private final int[] sprites;
+    private final int[] culled;
+    private final int[] textureSwitches;
+    private int head;                    // Next slot to write
+    private int count;
+    private long frame;
+
+    private long frameStartNanos;
+    private long previousStartNanos;
+
+    public RenderStats() {
+        this(DEFAULT_HISTORY);
+    }
+
+    /**
+     * @param history Number of frames kept
+     */
+    public RenderStats(int history) {
+        if (history < 1) {
+            throw new IllegalArgumentException("History must hold at least one frame");
+        }
+        capacity = history;
+        frameIds = new long[history];
+        frameMs = new float[history];
+        renderMs = new float[history];
+        renderCalls = new int[history];
+        glCalls = new int[history];
+        drawCalls = new int[history];
+        textureBinds = new int[history];
+        shaderSwitches = new int[history];
+        vertices = new int[history];
+        sprites = new int[history];
+        culled = new int[history];
+        textureSwitches = new int[history];
+    }
+
+    // --- CONTROL ---
+
+    /**
+     * Start or stop collecting. The GL profiler is only hooked in while enabled,
+     * since it wraps every GL call.
+     */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        previousStartNanos = 0L;
+
+        if (enabled) {
+            if (profiler == null && Gdx.graphics != null && Gdx.gl != null) {
+                profiler = new GLProfiler(Gdx.graphics);
+            }
+            if (profiler != null) {
+                profiler.enable();
+            }
+        } else if (profiler != null) {
+            profiler.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Whether GL-level counters are being collected
+     */
+    public boolean hasGlProfiler() {
+        return profiler != null;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    // --- RECORDING (called by OutputManager) ---
+
+    void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        frameStartNanos = System.nanoTime();
+        if (profiler != null) {
+            profiler.reset();
+        }
+    }
+
+    void endFrame(int batchRenderCalls, int submittedSprites, int culledSprites, int switches) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        int i = head;
+
+        frameIds[i] = frame++;
+        renderMs[i] = (now - frameStartNanos) / 1_000_000f;
+        frameMs[i] = previousStartNanos == 0L ? renderMs[i]
+                : (frameStartNanos - previousStartNanos) / 1_000_000f;
+        previousStartNanos = frameStartNanos;
+
+        renderCalls[i] = batchRenderCalls;
+        sprites[i] = submittedSprites;
+        culled[i] = culledSprites;
+        textureSwitches[i] = switches;
+
+        if (profiler != null) {
+            glCalls[i] = profiler.getCalls();
+            drawCalls[i] = profiler.getDrawCalls();
+            textureBinds[i] = profiler.getTextureBindings();
+            shaderSwitches[i] = profiler.getShaderSwitches();
+            vertices[i] = (int) profiler.getVertexCount().total;
+        } else {
+            glCalls[i] = -1;
+            drawCalls[i] = -1;
+            textureBinds[i] = -1;
+            shaderSwitches[i] = -1;
+            vertices[i] = -1;
+        }
+
+        head = (head + 1) % capacity;
+        if (count < capacity) {
+            count++;
+        }
+    }
+
+    // --- QUERIES (index 0 = oldest kept frame, getSampleCount() - 1 = newest) ---
+
+    public int getSampleCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Sample " + index + " of " + count);
+        }
+        return (head - count + index + capacity) % capacity;
+    }
+
+    public float getFrameMs(int index) {
+        return frameMs[slot(index)];
+    }
+
+    public float getRenderMs(int index) {
+        return renderMs[slot(index)];
+    }
+
+    public int getRenderCalls(int index) {
+        return renderCalls[slot(index)];
+    }
+
+    /**
+     * @return GL draw calls, or -1 without the GL profiler
+     */
+    public int getDrawCalls(int index) {
+        return drawCalls[slot(index)];
+    }
+
+    /**
+     * @return Texture binds, or -1 without the GL profiler
+     */
+    public int getTextureBinds(int index) {
+        return textureBinds[slot(index)];
+    }
+
+    /**
+     * @return Vertices submitted, or -1 without the GL profiler
+     */
+    public int getVertices(int index) {
+        return vertices[slot(index)];
+    }
+
+    public float getAverageFrameMs() {
+        return average(frameMs);
+    }
+
+    public float getAverageRenderMs() {
+        return average(renderMs);
+    }
+
+    public float getMaxFrameMs() {
+        float max = 0f;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, frameMs[slot(i)]);
+        }
+        return max;
+    }
+
+    private float average(float[] values) {
+        if (count == 0) {
+            return 0f;
+        }
+        float sum = 0f;
+        for (int i = 0; i < count; i++) {
+            sum += values[slot(i)];
+        }
+        return sum / count;
+    }
+
+    // --- OUTPUT ---
+
+    /**
+     * Draw the history as a bar graph of frame time (grey) with render time
+     * on top (green, red past the budget) and a line at the budget.
+     * The renderer's projection must already be set; nothing is drawn if
+     * there are no samples.
+     *
+     * @param budgetMs Target frame time, e.g. 16.67 for 60 FPS; bars are scaled to twice this
+     */
+    public void drawGraph(ShapeRenderer shapes, float x, float y, float width, float height, float budgetMs) {
+        if (count == 0) {
+            return;
+        }
+        float scale = height / (budgetMs * 2f);
+        float barWidth = width / capacity;
+
+        // Blending is off outside the batch; without it the backdrop is opaque
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0f, 0f, 0f, 0.6f);
+        shapes.rect(x, y, width, height);
+        for (int i = 0; i < count; i++) {
+            int s = slot(i);
+            float bx = x + (capacity - count + i) * barWidth;
+            shapes.setColor(0.5f, 0.5f, 0.5f, 1f);
+            shapes.rect(bx, y, barWidth, Math.min(height, frameMs[s] * scale));
+            if (renderMs[s] > budgetMs) {
+                shapes.setColor(1f, 0.2f, 0.2f, 1f);
+            } else {
+                shapes.setColor(0.2f, 1f, 0.2f, 1f);
+            }
+            shapes.rect(bx, y, barWidth, Math.min(height, renderMs[s] * scale));
+        }
+        shapes.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+
+        shapes.begin(ShapeRenderer.ShapeType.Line);
+        shapes.setColor(1f, 1f, 0f, 1f);
+        shapes.line(x, y + budgetMs * scale, x + width, y + budgetMs * scale);
+        shapes.end();
+    }
+
+    /**
+     * Write the kept history, oldest first, as CSV. GL columns are -1 when
+     * the GL profiler was unavailable.
+     */
+    public void writeCsv(FileHandle file) {
+        StringBuilder csv = new StringBuilder(CSV_HEADER.length() + count * 64);
+        csv.append(CSV_HEADER);
+        for (int i = 0; i < count; i++) {
+            int s = slot(i);
+            csv.append(frameIds[s]).append(',')
+               .append(frameMs[s]).append(',')
+               .append(renderMs[s]).append(',')
+               .append(renderCalls[s]).append(',')
+               .append(glCalls[s]).append(',')
+               .append(drawCalls[s]).append(',')
+               .append(textureBinds[s]).append(',')
+               .append(shaderSwitches[s]).append(',')
+               .append(vertices[s]).append(',')
+               .append(sprites[s]).append(',')
+               .append(culled[s]).append(',')
+               .append(textureSwitches[s]).append('\n');
+        }
+        file.writeString(csv.toString(), false);
+    }
+
+    void dispose() {
+        setEnabled(false);
+        profiler = null;
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.some_example_name.engine.io;
+// package main.java.io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Packs loose images and generated pixmaps into a few large texture pages
+ * at startup, so typical scenes draw from one texture and the batch rarely
+ * has to flush.
+ *
+ * Images listed in the generated assets.txt are packed on load(); more can
+ * be added at any time (e.g. solid-colour placeholders) and are merged into
+ * the existing pages the next time a region is looked up.
+ */
+public class RuntimeAtlas implements Disposable {
+
+    private static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 2;
+    private static final String[] IMAGE_EXTENSIONS = { "png", "jpg", "jpeg", "bmp" };
+
+    private final PixmapPacker packer;
+    private TextureAtlas atlas;
+    private boolean dirty;
+
+    // findRegion() is a linear scan, so resolved regions are cached by name
+    private final Map<String, TextureRegion> regions;
+
+    public RuntimeAtlas() {
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+        regions = new HashMap<>();
+    }
+
+    /**
+     * Pack every image listed in an asset list (one path per line, as written
+     * by the generateAssetList Gradle task). Regions are named by path.
+     */
+    public void load(FileHandle assetList) {
+        load(assetList, new InternalFileHandleResolver());
+    }
+
+    /**
+     * Same as load(FileHandle), reading the images through a resolver
+     * (e.g. from a packed archive)
+     */
+    public void load(FileHandle assetList, FileHandleResolver resolver) {
+        if (!assetList.exists()) {
+            System.err.println("Asset list missing: " + assetList.path());
+            return;
+        }
+        for (String line : assetList.readString().split("\\r?\\n")) {
+            String path = line.trim();
+            if (isImage(path)) {
+                addImage(path, resolver.resolve(path));
+            }
+        }
+    }
+
+    /**
+     * Pack an image file under the given region name
+     */
+    public void addImage(String name, FileHandle file) {
+        if (packer.getRect(name) != null) {
+            return;
+        }
+        Pixmap pixmap = new Pixmap(file);
+        addPixmap(name, pixmap);
+        pixmap.dispose();
+    }
+
+    /**
+     * Pack a generated pixmap. The pixmap is copied, so the caller still owns it.
+     */
+    public void addPixmap(String name, Pixmap pixmap) {
+        if (packer.getRect(name) != null) {
+            return;
+        }
+        packer.pack(name, pixmap);
+        dirty = true;
+    }
+
+    /**
+     * Region for a solid-colour rectangle, generated and packed on first use
+     */
+    public TextureRegion getSolid(String name, int width, int height, Color color) {
+        if (packer.getRect(name) == null) {
+            Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+            pixmap.setColor(color);
+            pixmap.fill();
+            addPixmap(name, pixmap);
+            pixmap.dispose();
+        }
+        return getRegion(name);
+    }
+
+    /**
+     * @return The packed region with this name, or null if nothing was packed under it
+     */
+    public TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if (region != null) {
+            return region;
+        }
+        if (dirty) {
+            upload();
+        }
+        region = atlas != null ? atlas.findRegion(name) : null;
+        if (region != null) {
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /**
+     * Upload pending packs now (e.g. at the end of a loading screen)
+     * instead of on the first lookup.
+     */
+    public void upload() {
+        if (atlas == null) {
+            atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        } else {
+            packer.updateTextureAtlas(atlas, Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        }
+        dirty = false;
+    }
+
+    /**
+     * @return Number of texture pages currently in use
+     */
+    public int getPageCount() {
+        return packer.getPages().size;
+    }
+
+    private static boolean isImage(String path) {
+        String lower = path.toLowerCase(Locale.ROOT);
+        for (String extension : IMAGE_EXTENSIONS) {
+            if (lower.endsWith("." + extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        packer.dispose();
+        regions.clear();
+    }
+}
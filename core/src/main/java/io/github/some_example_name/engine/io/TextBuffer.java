@@ -0,0 +1,177 @@
+package io.github.some_example_name.engine.io;
+
+import java.util.Arrays;
+
+/**
+ * Reusable character buffer for HUD text.
+ *
+ * Appending numbers writes digits straight into the buffer, so building
+ * "FPS: 60  Entities: 1234" each frame creates no Strings. Implements
+ * CharSequence so it can be handed to the font layout code directly.
+ */
+public final class TextBuffer implements CharSequence {
+
+    private static final int MAX_DECIMALS = 6;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    private char[] chars;
+    private int length;
+
+    public TextBuffer() {
+        this(32);
+    }
+
+    public TextBuffer(int capacity) {
+        chars = new char[Math.max(1, capacity)];
+    }
+
+    // --- BUILDING ---
+
+    public TextBuffer clear() {
+        length = 0;
+        return this;
+    }
+
+    public TextBuffer append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    public TextBuffer append(CharSequence text) {
+        int n = text.length();
+        ensureCapacity(length + n);
+        for (int i = 0; i < n; i++) {
+            chars[length++] = text.charAt(i);
+        }
+        return this;
+    }
+
+    public TextBuffer append(int value) {
+        return append((long) value);
+    }
+
+    public TextBuffer append(long value) {
+        if (value == Long.MIN_VALUE) {
+            return append("-9223372036854775808");
+        }
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        // Write digits backwards, then reverse them in place
+        ensureCapacity(length + 19);
+        int start = length;
+        do {
+            chars[length++] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            char swap = chars[i];
+            chars[i] = chars[j];
+            chars[j] = swap;
+        }
+        return this;
+    }
+
+    /**
+     * Append a float with a fixed number of decimals (rounded half up, at most 6)
+     */
+    public TextBuffer append(float value, int decimals) {
+        if (Float.isNaN(value)) {
+            return append("NaN");
+        }
+        if (Float.isInfinite(value)) {
+            return append(value > 0f ? "Inf" : "-Inf");
+        }
+        decimals = Math.max(0, Math.min(MAX_DECIMALS, decimals));
+        long scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round(Math.abs((double) value) * scale);
+        if (value < 0f && scaled != 0) {
+            append('-');
+        }
+        append(scaled / scale);
+        if (decimals > 0) {
+            append('.');
+            long fraction = scaled % scale;
+            // Leading zeros of the fraction
+            for (long p = scale / 10; p > fraction && p > 1; p /= 10) {
+                append('0');
+            }
+            append(fraction);
+        }
+        return this;
+    }
+
+    /**
+     * Append an int padded with spaces to a fixed width (right-aligned), so
+     * changing numbers don't shift the text after them
+     */
+    public TextBuffer appendPadded(int value, int width) {
+        int start = length;
+        append(value);
+        int digits = length - start;
+        if (digits < width) {
+            int pad = width - digits;
+            ensureCapacity(length + pad);
+            System.arraycopy(chars, start, chars, start + pad, digits);
+            Arrays.fill(chars, start, start + pad, ' ');
+            length += pad;
+        }
+        return this;
+    }
+
+    // --- COMPARISON ---
+
+    public boolean contentEquals(TextBuffer other) {
+        if (other.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[i] != other.chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void copyFrom(TextBuffer other) {
+        ensureCapacity(other.length);
+        System.arraycopy(other.chars, 0, chars, 0, other.length);
+        length = other.length;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(needed, chars.length * 2));
+        }
+    }
+
+    // --- CharSequence ---
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + length);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /**
+     * Allocates - for debugging only, not for per-frame use
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
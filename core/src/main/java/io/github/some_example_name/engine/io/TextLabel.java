@@ -0,0 +1,123 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+
+/**
+ * One piece of HUD text with its own cached glyph layout.
+ *
+ * Write the text every frame if convenient - edit() hands back a cleared
+ * buffer, and the layout is only rebuilt when the characters actually
+ * differ from what was last laid out. Moving or recolouring a label reuses
+ * the existing layout.
+ */
+public final class TextLabel {
+
+    private final TextBuffer text = new TextBuffer();      // What the game wrote this frame
+    private final TextBuffer shown = new TextBuffer();     // What the cache currently holds
+    private final Color color = new Color(1f, 1f, 1f, 1f);
+
+    private BitmapFontCache cache;                         // Created on first draw
+    private float x;
+    private float y;
+    private boolean visible = true;
+    private boolean laidOut;
+    private boolean moved;
+    private boolean recoloured;
+
+    TextLabel(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return This label's text buffer, cleared, ready to append to
+     */
+    public TextBuffer edit() {
+        return text.clear();
+    }
+
+    public void setText(CharSequence value) {
+        text.clear().append(value);
+    }
+
+    public TextBuffer getText() {
+        return text;
+    }
+
+    /**
+     * Position of the top-left of the text, in HUD coordinates
+     */
+    public void setPosition(float x, float y) {
+        if (x != this.x || y != this.y) {
+            this.x = x;
+            this.y = y;
+            moved = true;
+        }
+    }
+
+    public void setColor(Color color) {
+        this.color.set(color);
+        recoloured = true;
+    }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Forget the glyph cache so the next draw rebuilds it with the current font
+     */
+    void resetCache() {
+        cache = null;
+        laidOut = false;
+    }
+
+    /**
+     * @return Whether the glyphs had to be laid out again
+     */
+    boolean draw(Batch batch, BitmapFont font) {
+        if (!visible) {
+            return false;
+        }
+        if (cache == null) {
+            cache = new BitmapFontCache(font);
+        }
+
+        boolean relayout = !laidOut || !text.contentEquals(shown);
+        if (relayout) {
+            shown.copyFrom(text);
+            cache.setColor(color);
+            // Lay out at the origin and place with setPosition, so moving never re-lays out
+            cache.setText(shown, 0f, 0f);
+            cache.setPosition(x, y);
+            laidOut = true;
+        } else {
+            if (moved) {
+                cache.setPosition(x, y);
+            }
+            if (recoloured) {
+                cache.setColors(color);
+            }
+        }
+        moved = false;
+        recoloured = false;
+
+        cache.draw(batch);
+        return relayout;
+    }
+}
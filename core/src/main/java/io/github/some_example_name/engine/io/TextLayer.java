@@ -0,0 +1,101 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Screen-space HUD text drawn by OutputManager at the end of every frame.
+ *
+ * Labels live until removed and keep their glyph layouts between frames
+ * (see TextLabel). The font is only created on the first draw, so labels
+ * can be set up before there is a GL context, or without one at all.
+ */
+public class TextLayer implements Disposable {
+
+    private final List<TextLabel> labels = new ArrayList<>();
+    private BitmapFont font;
+    private boolean ownsFont;
+
+    private int relayoutsLastFrame;
+    private long totalRelayouts;
+
+    /**
+     * Use this font instead of libGDX's built-in one (the caller keeps ownership)
+     */
+    public void setFont(BitmapFont font) {
+        if (font == this.font) {
+            return;
+        }
+        disposeFont();
+        this.font = font;
+        this.ownsFont = false;
+        // Existing layouts are bound to the old font (possibly just disposed)
+        for (int i = 0; i < labels.size(); i++) {
+            labels.get(i).resetCache();
+        }
+    }
+
+    /**
+     * @param x Left edge, in HUD coordinates (800x600, origin bottom-left)
+     * @param y Top of the first line
+     */
+    public TextLabel createLabel(float x, float y) {
+        TextLabel label = new TextLabel(x, y);
+        labels.add(label);
+        return label;
+    }
+
+    public void removeLabel(TextLabel label) {
+        labels.remove(label);
+    }
+
+    public boolean isEmpty() {
+        return labels.isEmpty();
+    }
+
+    /**
+     * Draw every visible label; the batch must be drawing with the HUD projection
+     */
+    void draw(Batch batch) {
+        if (font == null) {
+            font = new BitmapFont();
+            ownsFont = true;
+        }
+        int relayouts = 0;
+        for (int i = 0; i < labels.size(); i++) {
+            if (labels.get(i).draw(batch, font)) {
+                relayouts++;
+            }
+        }
+        relayoutsLastFrame = relayouts;
+        totalRelayouts += relayouts;
+    }
+
+    /**
+     * @return Labels whose glyphs were laid out again last frame
+     */
+    public int getRelayoutsLastFrame() {
+        return relayoutsLastFrame;
+    }
+
+    public long getTotalRelayouts() {
+        return totalRelayouts;
+    }
+
+    private void disposeFont() {
+        if (font != null && ownsFont) {
+            font.dispose();
+        }
+        font = null;
+    }
+
+    @Override
+    public void dispose() {
+        disposeFont();
+        labels.clear();
+    }
+}
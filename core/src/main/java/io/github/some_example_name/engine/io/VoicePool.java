@@ -0,0 +1,315 @@
+package io.github.some_example_name.engine.io;
+
+import com.badlogic.gdx.audio.Sound;
+
+import java.util.Arrays;
+
+/**
+ * Table of sound instances currently considered playing.
+ *
+ * libGDX can't tell when a Sound instance ends, so each voice is held for
+ * an estimated length (per sound) and then freed. When the table is full a
+ * new play can take the slot of the lowest-priority voice, oldest first;
+ * if every playing voice outranks it, the new play is refused instead.
+ *
+ * Positional voices also carry an emitter position. Their pan and volume
+ * are refreshed together in attenuate(), and only pushed to the backend
+ * when they changed noticeably.
+ */
+class VoicePool {
+
+    /**
+     * Per-sound limits and bookkeeping
+     */
+    static final class SoundVoices {
+        final String name;
+        int maxInstances;
+        int priority;
+        float minInterval;          // Seconds between triggers
+        float voiceSeconds;         // Assumed length of one instance
+        float lastPlayTime = Float.NEGATIVE_INFINITY;
+        int active;
+        boolean held;               // Holding a cache reference (see AudioOutput)
+
+        SoundVoices(String name, int maxInstances, int priority, float minInterval, float voiceSeconds) {
+            this.name = name;
+            this.maxInstances = maxInstances;
+            this.priority = priority;
+            this.minInterval = minInterval;
+            this.voiceSeconds = voiceSeconds;
+        }
+    }
+
+    // Smallest pan/volume change worth a backend call
+    private static final float PAN_EPSILON = 0.02f;
+    private static final float VOLUME_EPSILON = 0.01f;
+
+    // Live voices, packed at the front
+    private Sound[] sounds;
+    private long[] ids;
+    private SoundVoices[] owners;
+    private float[] startTimes;
+    private float[] endTimes;
+    private int count;
+    private int maxVoices;
+
+    // Positional voices: emitter position, gain, and the pan/volume last sent
+    private boolean[] positional;
+    private float[] xs;
+    private float[] ys;
+    private float[] gains;
+    private float[] sentPans;
+    private float[] sentVolumes;
+
+    VoicePool(int maxVoices) {
+        this.sounds = new Sound[maxVoices];
+        this.ids = new long[maxVoices];
+        this.owners = new SoundVoices[maxVoices];
+        this.startTimes = new float[maxVoices];
+        this.endTimes = new float[maxVoices];
+        this.positional = new boolean[maxVoices];
+        this.xs = new float[maxVoices];
+        this.ys = new float[maxVoices];
+        this.gains = new float[maxVoices];
+        this.sentPans = new float[maxVoices];
+        this.sentVolumes = new float[maxVoices];
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Free voices whose assumed length has run out
+     */
+    void expire(float now) {
+        int i = 0;
+        while (i < count) {
+            if (endTimes[i] <= now) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Make room for one more voice of this sound, stopping another if needed
+     *
+     * @return false if the play should be culled
+     */
+    boolean makeRoom(SoundVoices owner, float now) {
+        if (owner.active >= owner.maxInstances) {
+            // Restart the sound rather than stack it: drop its oldest instance,
+            // unless even that one only just started (a burst in one frame)
+            int oldest = oldestOf(owner);
+            if (now - startTimes[oldest] <= owner.minInterval) {
+                return false;
+            }
+            stopVoice(oldest);
+            return true;
+        }
+        if (count < maxVoices) {
+            return true;
+        }
+        int victim = lowestPriority();
+        if (owners[victim].priority > owner.priority) {
+            return false;
+        }
+        stopVoice(victim);
+        return true;
+    }
+
+    void add(Sound sound, long id, SoundVoices owner, float now) {
+        int i = count++;
+        sounds[i] = sound;
+        ids[i] = id;
+        owners[i] = owner;
+        startTimes[i] = now;
+        endTimes[i] = now + owner.voiceSeconds;
+        positional[i] = false;
+        owner.active++;
+    }
+
+    /**
+     * Add a voice that follows an emitter position
+     *
+     * @param gain The play's own gain (before distance and master volume)
+     * @param pan Pan the instance was started with
+     * @param volume Volume the instance was started with
+     */
+    void addAt(Sound sound, long id, SoundVoices owner, float now,
+               float x, float y, float gain, float pan, float volume) {
+        add(sound, id, owner, now);
+        int i = count - 1;
+        positional[i] = true;
+        xs[i] = x;
+        ys[i] = y;
+        gains[i] = gain;
+        sentPans[i] = pan;
+        sentVolumes[i] = volume;
+    }
+
+    /**
+     * Move a positional voice's emitter; takes effect on the next attenuate()
+     *
+     * @return false if the voice has ended or isn't positional
+     */
+    boolean setPosition(long id, float x, float y) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id && positional[i]) {
+                xs[i] = x;
+                ys[i] = y;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Re-pan and re-attenuate every positional voice in one pass. Voices
+     * beyond the hearing range are stopped, freeing their slot.
+     *
+     * @return Number of voices stopped as inaudible
+     */
+    int attenuate(float listenerX, float listenerY, float innerRadius, float outerRadius, float masterVolume) {
+        float outerSq = outerRadius * outerRadius;
+        int culled = 0;
+        int i = 0;
+        while (i < count) {
+            if (!positional[i]) {
+                i++;
+                continue;
+            }
+            float dx = xs[i] - listenerX;
+            float dy = ys[i] - listenerY;
+            float distSq = dx * dx + dy * dy;
+            if (distSq >= outerSq) {
+                stopVoice(i);
+                culled++;
+                continue;
+            }
+            float volume = masterVolume * gains[i] * falloff((float) Math.sqrt(distSq), innerRadius, outerRadius);
+            float pan = pan(dx, outerRadius);
+            if (Math.abs(pan - sentPans[i]) > PAN_EPSILON || Math.abs(volume - sentVolumes[i]) > VOLUME_EPSILON) {
+                sounds[i].setPan(ids[i], pan, volume);
+                sentPans[i] = pan;
+                sentVolumes[i] = volume;
+            }
+            i++;
+        }
+        return culled;
+    }
+
+    /**
+     * @return 1 inside the inner radius, fading linearly to 0 at the outer radius
+     */
+    static float falloff(float distance, float innerRadius, float outerRadius) {
+        if (distance <= innerRadius) {
+            return 1f;
+        }
+        if (distance >= outerRadius) {
+            return 0f;
+        }
+        return 1f - (distance - innerRadius) / (outerRadius - innerRadius);
+    }
+
+    /**
+     * @return -1 (left) .. 1 (right), full at the edge of the hearing range
+     */
+    static float pan(float dx, float outerRadius) {
+        return Math.max(-1f, Math.min(1f, dx / outerRadius));
+    }
+
+    /**
+     * Stop and forget every voice
+     */
+    void stopAll() {
+        while (count > 0) {
+            stopVoice(count - 1);
+        }
+    }
+
+    /**
+     * Change the voice limit; voices over a lower limit are stopped, lowest priority first
+     */
+    void setMaxVoices(int maxVoices) {
+        while (count > maxVoices) {
+            stopVoice(lowestPriority());
+        }
+        if (maxVoices > sounds.length) {
+            sounds = Arrays.copyOf(sounds, maxVoices);
+            ids = Arrays.copyOf(ids, maxVoices);
+            owners = Arrays.copyOf(owners, maxVoices);
+            startTimes = Arrays.copyOf(startTimes, maxVoices);
+            endTimes = Arrays.copyOf(endTimes, maxVoices);
+            positional = Arrays.copyOf(positional, maxVoices);
+            xs = Arrays.copyOf(xs, maxVoices);
+            ys = Arrays.copyOf(ys, maxVoices);
+            gains = Arrays.copyOf(gains, maxVoices);
+            sentPans = Arrays.copyOf(sentPans, maxVoices);
+            sentVolumes = Arrays.copyOf(sentVolumes, maxVoices);
+        }
+        this.maxVoices = maxVoices;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int positionalSize() {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (positional[i]) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    int getMaxVoices() {
+        return maxVoices;
+    }
+
+    private int oldestOf(SoundVoices owner) {
+        int oldest = -1;
+        for (int i = 0; i < count; i++) {
+            if (owners[i] == owner && (oldest < 0 || startTimes[i] < startTimes[oldest])) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    private int lowestPriority() {
+        int victim = 0;
+        for (int i = 1; i < count; i++) {
+            int p = owners[i].priority;
+            int best = owners[victim].priority;
+            if (p < best || (p == best && startTimes[i] < startTimes[victim])) {
+                victim = i;
+            }
+        }
+        return victim;
+    }
+
+    private void stopVoice(int i) {
+        sounds[i].stop(ids[i]);
+        remove(i);
+    }
+
+    private void remove(int i) {
+        owners[i].active--;
+        int last = --count;
+        sounds[i] = sounds[last];
+        ids[i] = ids[last];
+        owners[i] = owners[last];
+        startTimes[i] = startTimes[last];
+        endTimes[i] = endTimes[last];
+        positional[i] = positional[last];
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        gains[i] = gains[last];
+        sentPans[i] = sentPans[last];
+        sentVolumes[i] = sentVolumes[last];
+        sounds[last] = null;
+        owners[last] = null;
+    }
+}
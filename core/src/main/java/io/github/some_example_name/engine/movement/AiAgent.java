@@ -0,0 +1,17 @@
+package io.github.some_example_name.engine.movement;
+
+/**
+ * Anything whose decision-making can be time-sliced by the AiScheduler.
+ * 
+ * Decisions (chase, flee, pick a wander target) go in think(); cheap movement
+ * integration stays in the entity's per-frame update.
+ */
+public interface AiAgent {
+
+    /**
+     * Run one decision step
+     * 
+     * @param elapsed Time since this agent last thought (seconds)
+     */
+    void think(float elapsed);
+}
@@ -0,0 +1,231 @@
+package io.github.some_example_name.engine.movement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AiScheduler - Spreads NPC decision-making across frames
+ * 
+ * Single Responsibility: Decide WHICH agents think on a given frame
+ * 
+ * Each agent thinks once every thinkInterval frames, offset by its slot so
+ * the load is even across frames. A per-frame millisecond budget stops the
+ * pass early; agents that were due but did not run are deferred and served
+ * first on the next frame. Each agent receives the time accumulated since
+ * it last thought, so behaviour stays consistent whatever the interval.
+ */
+public class AiScheduler {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ===== ATTRIBUTES =====
+    private final List<AiAgent> agents;
+    private float[] elapsed;            // Time since each agent last thought
+    private boolean[] pending;          // Due (or deferred) and not yet run
+
+    private int thinkInterval;          // Frames between thinks per agent
+    private float frameBudgetMs;        // <= 0 disables the budget
+    private long frame;
+    private int resumeIndex;            // Where the next pass starts
+
+    // ===== COUNTERS =====
+    private int tickedLastFrame;
+    private int deferredLastFrame;
+    private long totalTicked;
+    private long totalFrames;
+    private long overrunFrames;
+
+    // ===== CONSTRUCTORS =====
+
+    public AiScheduler() {
+        this(1, 0f);
+    }
+
+    /**
+     * @param thinkInterval Each agent thinks once every N frames (>= 1)
+     * @param frameBudgetMs Maximum time spent thinking per frame, <= 0 for unlimited
+     */
+    public AiScheduler(int thinkInterval, float frameBudgetMs) {
+        this.agents = new ArrayList<>();
+        this.elapsed = new float[INITIAL_CAPACITY];
+        this.pending = new boolean[INITIAL_CAPACITY];
+        setThinkInterval(thinkInterval);
+        setFrameBudgetMs(frameBudgetMs);
+    }
+
+    // ===== REGISTRATION =====
+
+    public void add(AiAgent agent) {
+        if (agent == null) {
+            throw new IllegalArgumentException("Agent cannot be null");
+        }
+        int index = agents.size();
+        if (index == elapsed.length) {
+            int capacity = elapsed.length * 2;
+            float[] newElapsed = new float[capacity];
+            boolean[] newPending = new boolean[capacity];
+            System.arraycopy(elapsed, 0, newElapsed, 0, index);
+            System.arraycopy(pending, 0, newPending, 0, index);
+            elapsed = newElapsed;
+            pending = newPending;
+        }
+        agents.add(agent);
+        elapsed[index] = 0f;
+        pending[index] = false;
+    }
+
+    /**
+     * Removes an agent (swap-remove, so the last agent takes its slot)
+     * 
+     * @return true if the agent was registered
+     */
+    public boolean remove(AiAgent agent) {
+        int index = agents.indexOf(agent);
+        if (index < 0) {
+            return false;
+        }
+        int last = agents.size() - 1;
+        agents.set(index, agents.get(last));
+        agents.remove(last);
+        elapsed[index] = elapsed[last];
+        pending[index] = pending[last];
+        pending[last] = false;
+        if (resumeIndex > last) {
+            resumeIndex = 0;
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < agents.size(); i++) {
+            pending[i] = false;
+        }
+        agents.clear();
+        resumeIndex = 0;
+    }
+
+    public int size() {
+        return agents.size();
+    }
+
+    // ===== FRAME UPDATE =====
+
+    /**
+     * Advance one frame and run the agents that are due, within budget
+     * 
+     * @param deltaTime Time since last frame
+     */
+    public void update(float deltaTime) {
+        int count = agents.size();
+        frame++;
+        totalFrames++;
+        tickedLastFrame = 0;
+        deferredLastFrame = 0;
+
+        if (count == 0) {
+            return;
+        }
+
+        // Accumulate time and mark this frame's slot as due
+        int slot = (int) (frame % thinkInterval);
+        for (int i = 0; i < count; i++) {
+            elapsed[i] += deltaTime;
+            if (i % thinkInterval == slot) {
+                pending[i] = true;
+            }
+        }
+
+        long deadline = frameBudgetMs > 0f
+                ? System.nanoTime() + (long) (frameBudgetMs * 1_000_000L)
+                : Long.MAX_VALUE;
+        boolean overrun = false;
+
+        // Start where the last pass stopped so deferred agents go first
+        int start = resumeIndex < count ? resumeIndex : 0;
+        for (int n = 0; n < count; n++) {
+            int i = start + n;
+            if (i >= count) {
+                i -= count;
+            }
+            if (!pending[i]) {
+                continue;
+            }
+
+            // Always let at least one agent through so work never stalls
+            if (overrun || (tickedLastFrame > 0 && System.nanoTime() >= deadline)) {
+                if (!overrun) {
+                    overrun = true;
+                    resumeIndex = i;
+                }
+                deferredLastFrame++;
+                continue;
+            }
+
+            pending[i] = false;
+            float dt = elapsed[i];
+            elapsed[i] = 0f;
+            agents.get(i).think(dt);
+            tickedLastFrame++;
+        }
+
+        if (overrun) {
+            overrunFrames++;
+        } else {
+            resumeIndex = 0;
+        }
+        totalTicked += tickedLastFrame;
+    }
+
+    // ===== CONFIGURATION =====
+
+    public void setThinkInterval(int thinkInterval) {
+        if (thinkInterval < 1) {
+            throw new IllegalArgumentException("Think interval must be >= 1");
+        }
+        this.thinkInterval = thinkInterval;
+    }
+
+    public int getThinkInterval() {
+        return thinkInterval;
+    }
+
+    public void setFrameBudgetMs(float frameBudgetMs) {
+        if (Float.isNaN(frameBudgetMs)) {
+            throw new IllegalArgumentException("Frame budget cannot be NaN");
+        }
+        this.frameBudgetMs = frameBudgetMs;
+    }
+
+    public float getFrameBudgetMs() {
+        return frameBudgetMs;
+    }
+
+    // ===== STATISTICS =====
+
+    public int getTickedLastFrame() {
+        return tickedLastFrame;
+    }
+
+    public int getDeferredLastFrame() {
+        return deferredLastFrame;
+    }
+
+    public long getTotalTicked() {
+        return totalTicked;
+    }
+
+    /**
+     * @return Fraction of frames (0..1) where the budget ran out before all due agents thought
+     */
+    public float getOverrunRate() {
+        return totalFrames == 0 ? 0f : (float) overrunFrames / totalFrames;
+    }
+
+    public void resetStatistics() {
+        tickedLastFrame = 0;
+        deferredLastFrame = 0;
+        totalTicked = 0;
+        totalFrames = 0;
+        overrunFrames = 0;
+    }
+}
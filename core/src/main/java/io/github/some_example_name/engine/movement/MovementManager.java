@@ -1,5 +1,8 @@
 package io.github.some_example_name.engine.movement;
 
+import java.util.Collection;
+import java.util.SplittableRandom;
+
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.some_example_name.engine.entity.GameEntity;
@@ -14,6 +17,7 @@ import io.github.some_example_name.engine.entity.GameEntity;
  * - PlayerMovementController: Keyboard-based player movement
  * - AIMovementController: AI behaviors (wander, chase, flee)
  * - MovementHelper: Utility calculations (distance, direction)
+ * - SpatialIndex: Radius / nearest-neighbour queries for targeting
  * 
  * Benefits of this architecture:
  * ✓ Each controller has ONE clear responsibility (SOLID)
@@ -27,14 +31,28 @@ public class MovementManager {
     private final PlayerMovementController playerController;
     private final NpcMovementController aiController;
     private final MovementCalculation helper;
+    private final SpatialIndex spatialIndex;
+    
+    // Default grid cell - about the size of a typical detection range
+    private static final float DEFAULT_INDEX_CELL_SIZE = 128f;
     
     /**
      * Constructor - Initialize all movement subsystems
      */
     public MovementManager() {
+        this(System.nanoTime());
+    }
+    
+    /**
+     * Constructor - Seed AI randomness. Only NPCs wandering with streams from
+     * createRandom() replay identically for the same seed; the wander
+     * overloads without a stream use ThreadLocalRandom and ignore it.
+     */
+    public MovementManager(long seed) {
         this.playerController = new PlayerMovementController();
-        this.aiController = new NpcMovementController();
+        this.aiController = new NpcMovementController(seed);
         this.helper = new MovementCalculation();
+        this.spatialIndex = new SpatialIndex(DEFAULT_INDEX_CELL_SIZE);
     }
     
     // ============================================================================
@@ -62,6 +80,7 @@ public class MovementManager {
     
     /**
      * Make NPC wander randomly with smooth direction changes
+     * (ThreadLocalRandom - not reproducible, ignores the seed)
      */
     public void wanderRandomly(GameEntity entity, float speed, Vector2 currentDirection, 
                                float[] directionTimer, float changeInterval, float deltaTime) {
@@ -69,8 +88,19 @@ public class MovementManager {
                                    changeInterval, deltaTime);
     }
     
+    /**
+     * Wander randomly using the entity's own random stream
+     */
+    public void wanderRandomly(GameEntity entity, float speed, Vector2 currentDirection, 
+                               float[] directionTimer, float changeInterval, 
+                               SplittableRandom rng, float deltaTime) {
+        aiController.wanderRandomly(entity, speed, currentDirection, directionTimer, 
+                                   changeInterval, rng, deltaTime);
+    }
+    
     /**
      * Wander by moving to random points
+     * (ThreadLocalRandom - not reproducible, ignores the seed)
      */
     public void wanderToRandomPoints(GameEntity entity, float speed, Vector2 targetPos,
                                      float stopDistance, float minX, float maxX, 
@@ -79,6 +109,24 @@ public class MovementManager {
                                          minX, maxX, minY, maxY, deltaTime);
     }
     
+    /**
+     * Wander to random points using the entity's own random stream
+     */
+    public void wanderToRandomPoints(GameEntity entity, float speed, Vector2 targetPos,
+                                     float stopDistance, float minX, float maxX, 
+                                     float minY, float maxY, SplittableRandom rng, 
+                                     float deltaTime) {
+        aiController.wanderToRandomPoints(entity, speed, targetPos, stopDistance, 
+                                         minX, maxX, minY, maxY, rng, deltaTime);
+    }
+    
+    /**
+     * Split off an independent random stream for one NPC
+     */
+    public SplittableRandom createRandom() {
+        return aiController.createRandom();
+    }
+    
     /**
      * Chase a target entity
      */
@@ -109,6 +157,60 @@ public class MovementManager {
         return aiController.fleeIfTooClose(entity, threat, speed, dangerRange, deltaTime);
     }
     
+    // ============================================================================
+    // TARGETING QUERIES (delegates to SpatialIndex)
+    // ============================================================================
+    
+    /**
+     * Rebuild the targeting index from current positions (once per frame)
+     */
+    public void rebuildSpatialIndex(Collection<? extends GameEntity> entities) {
+        spatialIndex.rebuild(entities);
+    }
+    
+    /**
+     * Find the closest other entity within range, or null
+     */
+    public GameEntity findNearest(GameEntity entity, float range) {
+        return spatialIndex.findNearest(entity.getPosition().x + entity.getWidth() / 2,
+                                        entity.getPosition().y + entity.getHeight() / 2,
+                                        range, entity);
+    }
+    
+    /**
+     * Find other entities within range (unordered); returns count written to out
+     */
+    public int findInRange(GameEntity entity, float range, GameEntity[] out) {
+        return spatialIndex.queryRadius(entity.getPosition().x + entity.getWidth() / 2,
+                                        entity.getPosition().y + entity.getHeight() / 2,
+                                        range, entity, out);
+    }
+    
+    /**
+     * Find the out.length closest other entities within range, nearest first
+     */
+    public int findNearestK(GameEntity entity, float range, GameEntity[] out) {
+        return spatialIndex.queryNearest(entity.getPosition().x + entity.getWidth() / 2,
+                                         entity.getPosition().y + entity.getHeight() / 2,
+                                         range, entity, out);
+    }
+    
+    /**
+     * Chase the closest indexed entity within range
+     */
+    public GameEntity chaseNearestInRange(GameEntity entity, float speed, 
+                                          float detectionRange, float deltaTime) {
+        return aiController.chaseNearestInRange(entity, spatialIndex, speed, detectionRange, deltaTime);
+    }
+    
+    /**
+     * Flee from the closest indexed entity if it is too close
+     */
+    public GameEntity fleeNearestIfTooClose(GameEntity entity, float speed, 
+                                            float dangerRange, float deltaTime) {
+        return aiController.fleeNearestIfTooClose(entity, spatialIndex, speed, dangerRange, deltaTime);
+    }
+    
     // ============================================================================
     // HELPER UTILITIES (delegates to MovementHelper)
     // ============================================================================
@@ -189,4 +291,12 @@ public class MovementManager {
     public MovementCalculation getHelper() {
         return helper;
     }
+    
+    /**
+     * Get direct access to the SpatialIndex
+     * Use for queries around arbitrary points
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,52 @@
 package io.github.some_example_name.engine.movement;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.some_example_name.engine.entity.GameEntity;
 
 public class NpcMovementController {
     
+    // Root random stream - per-entity streams are split off this. SplittableRandom
+    // is not thread-safe, so it is only touched in createRandom() (synchronized);
+    // the overloads without a stream use ThreadLocalRandom instead.
+    private final SplittableRandom random;
+    
+    /**
+     * Create a controller with a time-based seed (runs are not reproducible)
+     */
+    public NpcMovementController() {
+        this(System.nanoTime());
+    }
+    
+    /**
+     * Create a controller whose streams from createRandom() replay identically
+     * for the same seed (the wander overloads without a stream ignore it)
+     * 
+     * @param seed Seed for the root random stream
+     */
+    public NpcMovementController(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+    
+    /**
+     * Split off an independent random stream for one entity
+     * 
+     * NOTE: Entity should store the returned stream as state and pass it to the
+     * wander methods. Streams share no state, so NPCs can be updated on different
+     * threads without contending on a global seed. Create streams in a fixed order
+     * (e.g. at spawn time) to keep a scene reproducible. Safe to call from any
+     * thread, but streams only come out in a reproducible order when created
+     * from one thread.
+     * 
+     * @return New random stream derived from this controller's seed
+     */
+    public synchronized SplittableRandom createRandom() {
+        return random.split();
+    }
+    
     // ============================================================================
     // RANDOM WANDERING BEHAVIORS
     // ============================================================================
@@ -14,7 +55,9 @@ public class NpcMovementController {
      * Make NPC wander randomly with smooth direction changes
      * Entity moves in random directions, changing periodically
      * 
-     * NOTE: Entity must store currentDirection and directionTimer as state
+     * NOTE: Entity must store currentDirection and directionTimer as state.
+     * Uses the calling thread's ThreadLocalRandom, so it is safe to call in
+     * parallel but not reproducible - pass a stream from createRandom() for that.
      * 
      * @param entity The NPC entity to move
      * @param speed Movement speed in pixels per second
@@ -25,6 +68,32 @@ public class NpcMovementController {
      */
     public void wanderRandomly(GameEntity entity, float speed, Vector2 currentDirection, 
                                float[] directionTimer, float changeInterval, float deltaTime) {
+        wander(entity, speed, currentDirection, directionTimer, changeInterval, null, deltaTime);
+    }
+    
+    /**
+     * Make NPC wander randomly using the entity's own random stream
+     * 
+     * @param entity The NPC entity to move
+     * @param speed Movement speed in pixels per second
+     * @param currentDirection Current movement direction (will be modified)
+     * @param directionTimer Time until direction change (will be modified - use array)
+     * @param changeInterval How often to change direction (seconds)
+     * @param rng Entity's random stream (see createRandom)
+     * @param deltaTime Time since last frame
+     */
+    public void wanderRandomly(GameEntity entity, float speed, Vector2 currentDirection, 
+                               float[] directionTimer, float changeInterval, 
+                               SplittableRandom rng, float deltaTime) {
+        if (rng == null) {
+            throw new IllegalArgumentException("Random stream cannot be null");
+        }
+        wander(entity, speed, currentDirection, directionTimer, changeInterval, rng, deltaTime);
+    }
+    
+    private void wander(GameEntity entity, float speed, Vector2 currentDirection, 
+                        float[] directionTimer, float changeInterval, 
+                        SplittableRandom rng, float deltaTime) {
         
         // Decrease timer
         directionTimer[0] -= deltaTime;
@@ -32,7 +101,7 @@ public class NpcMovementController {
         // Time to pick new random direction?
         if (directionTimer[0] <= 0) {
             // Pick random angle (0 to 360 degrees)
-            float angle = (float) (Math.random() * 2 * Math.PI);
+            float angle = (float) (nextDouble(rng) * 2 * Math.PI);
             currentDirection.x = (float) Math.cos(angle);
             currentDirection.y = (float) Math.sin(angle);
             
@@ -49,7 +118,8 @@ public class NpcMovementController {
      * Wander by moving to random points (simpler, no external state needed)
      * Entity picks random target positions and moves toward them
      * 
-     * NOTE: Entity must store targetPos as state
+     * NOTE: Entity must store targetPos as state. Uses the calling thread's
+     * ThreadLocalRandom, like the wanderRandomly overload without a stream.
      * 
      * @param entity The NPC entity to move
      * @param speed Movement speed in pixels per second
@@ -64,6 +134,39 @@ public class NpcMovementController {
     public void wanderToRandomPoints(GameEntity entity, float speed, Vector2 targetPos,
                                      float stopDistance, float minX, float maxX, 
                                      float minY, float maxY, float deltaTime) {
+        wanderToPoints(entity, speed, targetPos, stopDistance, minX, maxX, minY, maxY, 
+                       null, deltaTime);
+    }
+    
+    /**
+     * Wander to random points using the entity's own random stream
+     * 
+     * @param entity The NPC entity to move
+     * @param speed Movement speed in pixels per second
+     * @param targetPos Current target position (will be modified when reached)
+     * @param stopDistance How close to get before picking new target
+     * @param minX Minimum X boundary for random targets
+     * @param maxX Maximum X boundary for random targets
+     * @param minY Minimum Y boundary for random targets
+     * @param maxY Maximum Y boundary for random targets
+     * @param rng Entity's random stream (see createRandom)
+     * @param deltaTime Time since last frame
+     */
+    public void wanderToRandomPoints(GameEntity entity, float speed, Vector2 targetPos,
+                                     float stopDistance, float minX, float maxX, 
+                                     float minY, float maxY, SplittableRandom rng, 
+                                     float deltaTime) {
+        if (rng == null) {
+            throw new IllegalArgumentException("Random stream cannot be null");
+        }
+        wanderToPoints(entity, speed, targetPos, stopDistance, minX, maxX, minY, maxY, 
+                       rng, deltaTime);
+    }
+    
+    private void wanderToPoints(GameEntity entity, float speed, Vector2 targetPos,
+                                float stopDistance, float minX, float maxX, 
+                                float minY, float maxY, SplittableRandom rng, 
+                                float deltaTime) {
         
         // Calculate center of entity
         float entityCenterX = entity.getPosition().x + entity.getWidth() / 2;
@@ -76,8 +179,8 @@ public class NpcMovementController {
         
         // Reached target? Pick new random target
         if (distance < stopDistance) {
-            targetPos.x = minX + (float) (Math.random() * (maxX - minX));
-            targetPos.y = minY + (float) (Math.random() * (maxY - minY));
+            targetPos.x = minX + (float) (nextDouble(rng) * (maxX - minX));
+            targetPos.y = minY + (float) (nextDouble(rng) * (maxY - minY));
         }
         
         // Move toward target
@@ -90,6 +193,13 @@ public class NpcMovementController {
         }
     }
     
+    /**
+     * Next value from the entity's stream, or from this thread's generator when there is none
+     */
+    private static double nextDouble(SplittableRandom rng) {
+        return rng != null ? rng.nextDouble() : ThreadLocalRandom.current().nextDouble();
+    }
+    
     // ============================================================================
     // CHASE BEHAVIOR
     // ============================================================================
@@ -155,6 +265,28 @@ public class NpcMovementController {
         return false;
     }
     
+    /**
+     * Chase the closest candidate in the spatial index, if any is within range
+     * Replaces looping over every entity with getDistanceBetween
+     * 
+     * @param entity The chasing entity (skipped as a candidate)
+     * @param index Spatial index rebuilt this frame
+     * @param speed Chase speed in pixels per second
+     * @param detectionRange Maximum distance to detect and chase a target
+     * @param deltaTime Time since last frame
+     * @return The target being chased, or null if none in range
+     */
+    public GameEntity chaseNearestInRange(GameEntity entity, SpatialIndex index, float speed, 
+                                          float detectionRange, float deltaTime) {
+        GameEntity target = index.findNearest(entity.getPosition().x + entity.getWidth() / 2, 
+                                              entity.getPosition().y + entity.getHeight() / 2, 
+                                              detectionRange, entity);
+        if (target != null) {
+            chaseTarget(entity, target, speed, deltaTime);
+        }
+        return target;
+    }
+    
     // ============================================================================
     // FLEE BEHAVIOR
     // ============================================================================
@@ -219,4 +351,25 @@ public class NpcMovementController {
         }
         return false;
     }
+    
+    /**
+     * Flee from the closest candidate in the spatial index, if it is too close
+     * 
+     * @param entity The fleeing entity (skipped as a candidate)
+     * @param index Spatial index rebuilt this frame
+     * @param speed Flee speed in pixels per second
+     * @param dangerRange Distance threshold to start fleeing
+     * @param deltaTime Time since last frame
+     * @return The threat being fled from, or null if none close enough
+     */
+    public GameEntity fleeNearestIfTooClose(GameEntity entity, SpatialIndex index, float speed, 
+                                            float dangerRange, float deltaTime) {
+        GameEntity threat = index.findNearest(entity.getPosition().x + entity.getWidth() / 2, 
+                                              entity.getPosition().y + entity.getHeight() / 2, 
+                                              dangerRange, entity);
+        if (threat != null) {
+            fleeFromThreat(entity, threat, speed, deltaTime);
+        }
+        return threat;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package io.github.some_example_name.engine.movement;
 
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.some_example_name.engine.entity.GameEntity;
 import io.github.some_example_name.engine.io.IOManager;
+import io.github.some_example_name.engine.io.InputActions;
 
+/**
+ * Moves player entities from the MOVE_X / MOVE_Y input axes.
+ * 
+ * Bindings live in InputActions (WASD + arrows by default) and are evaluated
+ * once per frame, so each call here is two array reads - no key polling.
+ * Called from a threaded simulation, the axes come from that tick's input
+ * snapshot instead of the render thread's frame.
+ */
 public class PlayerMovementController {
     
     /**
@@ -15,24 +23,11 @@ public class PlayerMovementController {
      */
 
     public void handleWASDMovement(GameEntity entity, float speed, float deltaTime) {
+        InputActions actions = IOManager.getInstance().getActions();
         Vector2 pos = entity.getPosition();
         
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.W) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.UP)) {
-            pos.y += speed * deltaTime;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.S) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.DOWN)) {
-            pos.y -= speed * deltaTime;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.A) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.LEFT)) {
-            pos.x -= speed * deltaTime;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.D) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.RIGHT)) {
-            pos.x += speed * deltaTime;
-        }
+        pos.x += actions.getAxis(InputActions.MOVE_X) * speed * deltaTime;
+        pos.y += actions.getAxis(InputActions.MOVE_Y) * speed * deltaTime;
     }
     
     /**
@@ -44,31 +39,17 @@ public class PlayerMovementController {
      * @param deltaTime Time since last frame
      */
     public void handleWASDMovementNormalized(GameEntity entity, float speed, float deltaTime) {
-        Vector2 movement = new Vector2(0, 0);
+        InputActions actions = IOManager.getInstance().getActions();
         
         // Collect input
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.W) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.UP)) {
-            movement.y += 1;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.S) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.DOWN)) {
-            movement.y -= 1;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.A) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.LEFT)) {
-            movement.x -= 1;
-        }
-        if (IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.D) ||
-            IOManager.getInstance().getDynamicInput().isKeyPressed(Input.Keys.RIGHT)) {
-            movement.x += 1;
-        }
+        float moveX = actions.getAxis(InputActions.MOVE_X);
+        float moveY = actions.getAxis(InputActions.MOVE_Y);
         
         // Normalize to prevent faster diagonal movement
-        if (movement.len() > 0) {
-            movement.nor();
-            entity.getPosition().x += movement.x * speed * deltaTime;
-            entity.getPosition().y += movement.y * speed * deltaTime;
+        float length = (float) Math.sqrt(moveX * moveX + moveY * moveY);
+        if (length > 0) {
+            entity.getPosition().x += moveX / length * speed * deltaTime;
+            entity.getPosition().y += moveY / length * speed * deltaTime;
         }
     }
-}
\ No newline at end of file
+}
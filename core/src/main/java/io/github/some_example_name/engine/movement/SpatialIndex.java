@@ -0,0 +1,415 @@
+package io.github.some_example_name.engine.movement;
+
+import java.util.Collection;
+
+import io.github.some_example_name.engine.entity.GameEntity;
+
+/**
+ * SpatialIndex - Uniform grid over entity centers for AI targeting queries
+ * 
+ * Single Responsibility: Answer "who is near this point?" without scanning
+ * every entity
+ * 
+ * Rebuild once per frame with rebuild(), then run any number of radius and
+ * k-nearest queries. Results are written into caller-owned arrays, and the
+ * internal arrays only grow, so steady-state frames do not allocate.
+ */
+public class SpatialIndex {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    // ===== ATTRIBUTES =====
+    private final float cellSize;
+    
+    // Entity data (index = insertion order)
+    private GameEntity[] entities;
+    private float[] centerX;
+    private float[] centerY;
+    private int[] cellOf;
+    private int count;
+    
+    // Grid: entities of cell c are sorted[cellStart[c] .. cellStart[c + 1])
+    private int[] cellStart;
+    private int[] sorted;
+    private float minX;
+    private float minY;
+    private float maxX;                 // Bounds of the indexed centers
+    private float maxY;
+    private float inverseCellWidth;
+    private float inverseCellHeight;
+    private float minCellSide;          // Smaller of the effective cell sides
+    private int columns;
+    private int rows;
+    
+    // k-nearest scratch (best distances so far, ascending)
+    private float[] bestDistanceSq;
+    private final GameEntity[] nearestScratch = new GameEntity[1];
+    
+    /**
+     * @param cellSize Grid cell size in pixels - roughly the typical query radius works well
+     */
+    public SpatialIndex(float cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be > 0");
+        }
+        this.cellSize = cellSize;
+        this.entities = new GameEntity[INITIAL_CAPACITY];
+        this.centerX = new float[INITIAL_CAPACITY];
+        this.centerY = new float[INITIAL_CAPACITY];
+        this.cellOf = new int[INITIAL_CAPACITY];
+        this.sorted = new int[INITIAL_CAPACITY];
+        this.cellStart = new int[2];
+        this.bestDistanceSq = new float[8];
+    }
+    
+    // ============================================================================
+    // BUILDING
+    // ============================================================================
+    
+    /**
+     * Rebuild the index from the current entity positions (call once per frame)
+     * 
+     * @param source Entities to index
+     */
+    public void rebuild(Collection<? extends GameEntity> source) {
+        // Drop references from the previous frame
+        for (int i = 0; i < count; i++) {
+            entities[i] = null;
+        }
+        count = 0;
+        ensureCapacity(source.size());
+        
+        maxX = -Float.MAX_VALUE;
+        maxY = -Float.MAX_VALUE;
+        minX = Float.MAX_VALUE;
+        minY = Float.MAX_VALUE;
+        
+        for (GameEntity entity : source) {
+            float x = entity.getPosition().x + entity.getWidth() / 2;
+            float y = entity.getPosition().y + entity.getHeight() / 2;
+            entities[count] = entity;
+            centerX[count] = x;
+            centerY[count] = y;
+            count++;
+            
+            if (x < minX) minX = x;
+            if (y < minY) minY = y;
+            if (x > maxX) maxX = x;
+            if (y > maxY) maxY = y;
+        }
+        
+        if (count == 0) {
+            columns = 0;
+            rows = 0;
+            return;
+        }
+        
+        // Cap the cell count so sparse, huge worlds don't blow up memory
+        float cellWidth = cellSize;
+        float cellHeight = cellSize;
+        long wantedColumns = (long) ((maxX - minX) / cellSize) + 1;
+        long wantedRows = (long) ((maxY - minY) / cellSize) + 1;
+        long maxCells = Math.max(1024L, 4L * count);
+        if (wantedColumns * wantedRows > maxCells) {
+            float grow = (float) Math.sqrt((double) wantedColumns * wantedRows / maxCells);
+            cellWidth *= grow;
+            cellHeight *= grow;
+        }
+        // A long, narrow layout can still want more cells on one axis than
+        // the cap allows: widen the cells on that axis so the grid always
+        // covers the bounds (otherwise the far end piles into the last cell)
+        cellWidth = coveringSide(maxX - minX, cellWidth, maxCells);
+        columns = (int) ((maxX - minX) * (1f / cellWidth)) + 1;
+        cellHeight = coveringSide(maxY - minY, cellHeight, maxCells / columns);
+        rows = (int) ((maxY - minY) * (1f / cellHeight)) + 1;
+        inverseCellWidth = 1f / cellWidth;
+        inverseCellHeight = 1f / cellHeight;
+        minCellSide = Math.min(cellWidth, cellHeight);
+        
+        int cellCount = columns * rows;
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[cellCount + 1];
+        }
+        for (int c = 0; c <= cellCount; c++) {
+            cellStart[c] = 0;
+        }
+        
+        // Counting sort by cell
+        for (int i = 0; i < count; i++) {
+            int cell = cellIndex(columnOf(centerX[i]), rowOf(centerY[i]));
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        for (int i = 0; i < count; i++) {
+            // cellStart[c] is used as a write cursor, then shifted back below
+            sorted[cellStart[cellOf[i]]++] = i;
+        }
+        for (int c = cellCount; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+    
+    public int size() {
+        return count;
+    }
+    
+    // ============================================================================
+    // QUERIES
+    // ============================================================================
+    
+    /**
+     * Find all entities whose center is within radius of a point
+     * 
+     * @param x Query center X
+     * @param y Query center Y
+     * @param radius Search radius in pixels
+     * @param exclude Entity to skip (usually the one asking), may be null
+     * @param out Receives the matches (in no particular order)
+     * @return Number of matches written; stops early when out is full
+     */
+    public int queryRadius(float x, float y, float radius, GameEntity exclude, GameEntity[] out) {
+        if (count == 0 || out.length == 0) {
+            return 0;
+        }
+        float radiusSq = radius * radius;
+        int fromColumn = clampColumn(columnOfUnclamped(x - radius));
+        int toColumn = clampColumn(columnOfUnclamped(x + radius));
+        int fromRow = clampRow(rowOfUnclamped(y - radius));
+        int toRow = clampRow(rowOfUnclamped(y + radius));
+        
+        int found = 0;
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int s = cellStart[cell], end = cellStart[cell + 1]; s < end; s++) {
+                    int i = sorted[s];
+                    if (entities[i] == exclude) {
+                        continue;
+                    }
+                    float dx = centerX[i] - x;
+                    float dy = centerY[i] - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out[found++] = entities[i];
+                        if (found == out.length) {
+                            return found;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Find all entities whose center lies inside an axis-aligned rectangle
+     * (e.g. the camera view, expanded by the largest sprite half-size)
+     * 
+     * @param out Receives the matches (in no particular order)
+     * @return Number of matches written; stops early when out is full
+     */
+    public int queryRect(float minX, float minY, float maxX, float maxY, GameEntity[] out) {
+        if (count == 0 || out.length == 0) {
+            return 0;
+        }
+        int fromColumn = clampColumn(columnOfUnclamped(minX));
+        int toColumn = clampColumn(columnOfUnclamped(maxX));
+        int fromRow = clampRow(rowOfUnclamped(minY));
+        int toRow = clampRow(rowOfUnclamped(maxY));
+        
+        int found = 0;
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int s = cellStart[cell], end = cellStart[cell + 1]; s < end; s++) {
+                    int i = sorted[s];
+                    float x = centerX[i];
+                    float y = centerY[i];
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        out[found++] = entities[i];
+                        if (found == out.length) {
+                            return found;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Find the k entities closest to a point, nearest first
+     * 
+     * @param x Query center X
+     * @param y Query center Y
+     * @param maxRadius Ignore entities further than this
+     * @param exclude Entity to skip (usually the one asking), may be null
+     * @param out Receives the matches; k = out.length
+     * @return Number of matches written
+     */
+    public int queryNearest(float x, float y, float maxRadius, GameEntity exclude, GameEntity[] out) {
+        int k = out.length;
+        if (count == 0 || k == 0) {
+            return 0;
+        }
+        if (bestDistanceSq.length < k) {
+            bestDistanceSq = new float[k];
+        }
+        float maxRadiusSq = maxRadius * maxRadius;
+        
+        // Rings grow around the grid cell nearest the point. A point outside
+        // the bounds is first projected onto them; the projection is no
+        // further from any cell than the point, so both gaps add up
+        // (squared) to a lower bound for every cell in a ring
+        int column = columnOf(x);
+        int row = rowOf(y);
+        float outsideX = Math.max(0f, Math.max(minX - x, x - maxX));
+        float outsideY = Math.max(0f, Math.max(minY - y, y - maxY));
+        float outsideSq = outsideX * outsideX + outsideY * outsideY;
+        int lastRing = Math.max(Math.max(column, columns - 1 - column), Math.max(row, rows - 1 - row));
+        int found = 0;
+        
+        for (int ring = 0; ring <= lastRing; ring++) {
+            // Every cell in this ring is at least (ring - 1) cells away
+            float ringGap = Math.max(0, ring - 1) * minCellSide;
+            float lowerBoundSq = outsideSq + ringGap * ringGap;
+            if (lowerBoundSq > maxRadiusSq) {
+                break;
+            }
+            if (found == k && lowerBoundSq >= bestDistanceSq[k - 1]) {
+                break;
+            }
+            
+            int fromRow = Math.max(0, row - ring);
+            int toRow = Math.min(rows - 1, row + ring);
+            int fromColumn = Math.max(0, column - ring);
+            int toColumn = Math.min(columns - 1, column + ring);
+            for (int r = fromRow; r <= toRow; r++) {
+                if (r == row - ring || r == row + ring) {
+                    // Top / bottom edge of the ring: the whole span
+                    for (int c = fromColumn; c <= toColumn; c++) {
+                        found = scanNearest(cellIndex(c, r), x, y, maxRadiusSq, exclude, out, found);
+                    }
+                } else {
+                    // Middle rows: just the left and right sides
+                    if (column - ring >= 0) {
+                        found = scanNearest(cellIndex(column - ring, r), x, y, maxRadiusSq, exclude, out, found);
+                    }
+                    if (ring > 0 && column + ring < columns) {
+                        found = scanNearest(cellIndex(column + ring, r), x, y, maxRadiusSq, exclude, out, found);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Merge one cell's entities into the sorted top-k held in out / bestDistanceSq
+     */
+    private int scanNearest(int cell, float x, float y, float maxRadiusSq, GameEntity exclude,
+                            GameEntity[] out, int found) {
+        int k = out.length;
+        for (int s = cellStart[cell], end = cellStart[cell + 1]; s < end; s++) {
+            int i = sorted[s];
+            if (entities[i] == exclude) {
+                continue;
+            }
+            float dx = centerX[i] - x;
+            float dy = centerY[i] - y;
+            float distanceSq = dx * dx + dy * dy;
+            if (distanceSq > maxRadiusSq) {
+                continue;
+            }
+            if (found == k && distanceSq >= bestDistanceSq[k - 1]) {
+                continue;
+            }
+            
+            // Insertion into the sorted top-k
+            int slot = found < k ? found++ : k - 1;
+            while (slot > 0 && bestDistanceSq[slot - 1] > distanceSq) {
+                bestDistanceSq[slot] = bestDistanceSq[slot - 1];
+                out[slot] = out[slot - 1];
+                slot--;
+            }
+            bestDistanceSq[slot] = distanceSq;
+            out[slot] = entities[i];
+        }
+        return found;
+    }
+    
+    /**
+     * Find the single closest entity to a point
+     * 
+     * @return Closest entity within maxRadius, or null if none
+     */
+    public GameEntity findNearest(float x, float y, float maxRadius, GameEntity exclude) {
+        GameEntity result = queryNearest(x, y, maxRadius, exclude, nearestScratch) > 0 
+                ? nearestScratch[0] : null;
+        nearestScratch[0] = null;
+        return result;
+    }
+    
+    // ============================================================================
+    // GRID HELPERS
+    // ============================================================================
+    
+    private void ensureCapacity(int needed) {
+        if (entities.length >= needed) {
+            return;
+        }
+        int capacity = Math.max(needed, entities.length * 2);
+        entities = new GameEntity[capacity];
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        cellOf = new int[capacity];
+        sorted = new int[capacity];
+    }
+    
+    /**
+     * @return Smallest side >= side that spans extent in at most maxCount cells
+     */
+    private static float coveringSide(float extent, float side, long maxCount) {
+        if (maxCount > 1) {
+            side = Math.max(side, extent / (maxCount - 1));
+        } else {
+            side = Math.max(side, extent);
+        }
+        // Float rounding can still leave one cell too many
+        while ((long) (extent * (1f / side)) + 1 > maxCount) {
+            side = Math.nextUp(side);
+        }
+        return side;
+    }
+    
+    private int columnOfUnclamped(float x) {
+        return (int) Math.floor((x - minX) * inverseCellWidth);
+    }
+    
+    private int rowOfUnclamped(float y) {
+        return (int) Math.floor((y - minY) * inverseCellHeight);
+    }
+    
+    private int columnOf(float x) {
+        return clampColumn(columnOfUnclamped(x));
+    }
+    
+    private int rowOf(float y) {
+        return clampRow(rowOfUnclamped(y));
+    }
+    
+    private int clampColumn(int column) {
+        return column < 0 ? 0 : (column >= columns ? columns - 1 : column);
+    }
+    
+    private int clampRow(int row) {
+        return row < 0 ? 0 : (row >= rows ? rows - 1 : row);
+    }
+    
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+}
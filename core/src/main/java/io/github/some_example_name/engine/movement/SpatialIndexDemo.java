@@ -0,0 +1,177 @@
+package io.github.some_example_name.engine.movement;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.some_example_name.engine.entity.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Correctness check for SpatialIndex against a brute-force scan.
+ *
+ * Runs radius, nearest and k-nearest queries from points inside and
+ * outside the indexed bounds over three layouts: a square world, a long
+ * narrow strip (more columns wanted than the cell cap allows) and a tall
+ * one. Any answer that differs from the scan makes main() throw.
+ */
+public class SpatialIndexDemo {
+
+    private static final float CELL_SIZE = 128f;
+    private static final int QUERIES = 2_000;
+    private static final int K = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+
+        System.out.println("=== Spatial Index Check ===\n");
+        check("Square 20k x 20k, 5000 entities", square(random, 5_000, 20_000f), random);
+        check("Strip 1e6 x 0, 100 entities", strip(random, 100, 1_000_000f, false), random);
+        check("Strip 0 x 1e6, 100 entities", strip(random, 100, 1_000_000f, true), random);
+
+        // The case that used to miss: a neighbour 100 px away near the far end
+        List<Point> points = strip(random, 100, 1_000_000f, false);
+        points.add(new Point(900_000f, 0f));
+        points.add(new Point(900_100f, 0f));
+        SpatialIndex index = new SpatialIndex(CELL_SIZE);
+        index.rebuild(points);
+        GameEntity nearest = index.findNearest(900_000f, 0f, 500f, points.get(points.size() - 2));
+        if (nearest != points.get(points.size() - 1)) {
+            throw new IllegalStateException("Far end of a strip: expected the neighbour 100 px away, got " + nearest);
+        }
+        System.out.println("Far end of a strip: neighbour found");
+    }
+
+    private static void check(String name, List<Point> points, Random random) {
+        SpatialIndex index = new SpatialIndex(CELL_SIZE);
+        index.rebuild(points);
+
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (Point point : points) {
+            minX = Math.min(minX, point.position.x);
+            minY = Math.min(minY, point.position.y);
+            maxX = Math.max(maxX, point.position.x);
+            maxY = Math.max(maxY, point.position.y);
+        }
+        // Query from a margin around the bounds too
+        float margin = Math.max(1_000f, Math.max(maxX - minX, maxY - minY) * 0.05f);
+
+        GameEntity[] found = new GameEntity[points.size()];
+        GameEntity[] nearestK = new GameEntity[K];
+        for (int q = 0; q < QUERIES; q++) {
+            float x = minX - margin + random.nextFloat() * (maxX - minX + 2 * margin);
+            float y = minY - margin + random.nextFloat() * (maxY - minY + 2 * margin);
+            float radius = 50f + random.nextFloat() * 5_000f;
+
+            int count = index.queryRadius(x, y, radius, null, found);
+            if (count != bruteRadius(points, x, y, radius)) {
+                throw new IllegalStateException(name + ": radius query at (" + x + ", " + y + ") found " + count);
+            }
+
+            int k = index.queryNearest(x, y, radius, null, nearestK);
+            float[] expected = bruteNearest(points, x, y, radius, K);
+            if (k != expected.length) {
+                throw new IllegalStateException(name + ": nearest query at (" + x + ", " + y + ") found "
+                        + k + ", expected " + expected.length);
+            }
+            for (int i = 0; i < k; i++) {
+                if (distanceSq(nearestK[i], x, y) != expected[i]) {
+                    throw new IllegalStateException(name + ": nearest query at (" + x + ", " + y
+                            + ") returned the wrong entity at rank " + i);
+                }
+            }
+        }
+        System.out.println(name + ": " + QUERIES + " queries agree");
+    }
+
+    // --- BRUTE FORCE ---
+
+    private static int bruteRadius(List<Point> points, float x, float y, float radius) {
+        int count = 0;
+        for (Point point : points) {
+            if (distanceSq(point, x, y) <= radius * radius) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Squared distances of the k nearest within radius, ascending
+     */
+    private static float[] bruteNearest(List<Point> points, float x, float y, float radius, int k) {
+        float[] all = new float[points.size()];
+        int count = 0;
+        for (Point point : points) {
+            float distanceSq = distanceSq(point, x, y);
+            if (distanceSq <= radius * radius) {
+                all[count++] = distanceSq;
+            }
+        }
+        Arrays.sort(all, 0, count);
+        return Arrays.copyOf(all, Math.min(k, count));
+    }
+
+    private static float distanceSq(GameEntity entity, float x, float y) {
+        float dx = entity.getPosition().x - x;
+        float dy = entity.getPosition().y - y;
+        return dx * dx + dy * dy;
+    }
+
+    // --- LAYOUTS ---
+
+    private static List<Point> square(Random random, int count, float size) {
+        List<Point> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new Point(random.nextFloat() * size, random.nextFloat() * size));
+        }
+        return points;
+    }
+
+    private static List<Point> strip(Random random, int count, float length, boolean vertical) {
+        List<Point> points = new ArrayList<>(count + 2);
+        for (int i = 0; i < count; i++) {
+            float along = random.nextFloat() * length;
+            points.add(vertical ? new Point(0f, along) : new Point(along, 0f));
+        }
+        return points;
+    }
+
+    /**
+     * Zero-size entity, so its center is its position
+     */
+    private static final class Point extends GameEntity {
+
+        private final Vector2 position;
+
+        Point(float x, float y) {
+            position = new Vector2(x, y);
+        }
+
+        @Override
+        public TextureRegion getTexture() {
+            return null;
+        }
+
+        @Override
+        public Vector2 getPosition() {
+            return position;
+        }
+
+        @Override
+        public float getWidth() {
+            return 0f;
+        }
+
+        @Override
+        public float getHeight() {
+            return 0f;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.some_example_name.engine.particles;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.some_example_name.engine.entity.EntityManager;
+import io.github.some_example_name.engine.entity.NPCEntity;
+
+import java.util.UUID;
+
+/**
+ * Benchmark: a stream of explosions as pooled particles versus the same
+ * number of short-lived NPCEntity objects going through EntityManager.
+ *
+ * Every frame a few explosions spawn and old debris dies, so both sides
+ * pay for creation and removal as well as the per-frame update.
+ */
+public class ParticleDemo {
+
+    private static final int CAP = 250_000;
+    private static final int EXPLOSIONS = 8;
+    private static final int PER_EXPLOSION = 300;
+    private static final float LIFE = 1.5f;
+    private static final int WARMUP_FRAMES = 300;
+    private static final int MEASURED_FRAMES = 600;
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=== Particle Benchmark (" + EXPLOSIONS * PER_EXPLOSION + " spawns/frame) ===\n");
+
+        ParticleSystem system = new ParticleSystem(CAP, 42L);
+        ParticleEmitter[] emitters = new ParticleEmitter[EXPLOSIONS];
+        TextureRegion region = new TextureRegion();
+        for (int i = 0; i < EXPLOSIONS; i++) {
+            emitters[i] = new ParticleEmitter(region, CAP / EXPLOSIONS)
+                .setLife(LIFE, LIFE)
+                .setSpeed(40f, 200f)
+                .setGravity(-98f)
+                .setPosition(100f * i, 300f);
+            system.addEmitter(emitters[i]);
+        }
+
+        for (int f = 0; f < WARMUP_FRAMES; f++) {
+            particleFrame(system, emitters);
+        }
+        long start = System.nanoTime();
+        for (int f = 0; f < MEASURED_FRAMES; f++) {
+            particleFrame(system, emitters);
+        }
+        double particleMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+        System.out.printf("ParticleSystem: %.3f ms/frame (%d alive, %d spawns dropped)%n",
+            particleMs, system.getAliveCount(), system.getDroppedSpawns());
+
+        EntityManager manager = new EntityManager();
+        int lifeFrames = Math.round(LIFE / FRAME_DELTA);
+        UUID[][] spawned = new UUID[lifeFrames][EXPLOSIONS * PER_EXPLOSION];
+        for (int f = 0; f < WARMUP_FRAMES; f++) {
+            entityFrame(manager, spawned, f);
+        }
+        start = System.nanoTime();
+        for (int f = 0; f < MEASURED_FRAMES; f++) {
+            entityFrame(manager, spawned, WARMUP_FRAMES + f);
+        }
+        double entityMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+        System.out.printf("NPCEntity:      %.3f ms/frame (%d alive)%n", entityMs, manager.getAll().size());
+        System.out.printf("Speed-up:       %.1fx%n", entityMs / particleMs);
+    }
+
+    private static void particleFrame(ParticleSystem system, ParticleEmitter[] emitters) {
+        for (ParticleEmitter emitter : emitters) {
+            emitter.burst(PER_EXPLOSION);
+        }
+        system.update(FRAME_DELTA);
+    }
+
+    private static void entityFrame(EntityManager manager, UUID[][] spawned, int frame) {
+        // Remove the debris spawned LIFE seconds ago, then spawn new
+        UUID[] slot = spawned[frame % spawned.length];
+        for (int i = 0; i < slot.length; i++) {
+            if (slot[i] != null) {
+                manager.remove(slot[i]);
+            }
+            double angle = (i * 2.399963) % (Math.PI * 2);
+            NPCEntity debris = new NPCEntity("Debris", 100f * (i % EXPLOSIONS), 300f);
+            debris.setVelocity((float) Math.cos(angle) * 120f, (float) Math.sin(angle) * 120f);
+            slot[i] = manager.create(debris);
+        }
+        manager.update(FRAME_DELTA);
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.some_example_name.engine.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Spawn settings for one effect (explosion, trail, smoke...).
+ *
+ * An emitter holds no particles itself - it tells its ParticleSystem how
+ * many to spawn and with what ranges. Particles spawn continuously at the
+ * rate, and/or in one go with burst(). Each emitter has a budget of live
+ * particles; spawns past the budget (or the system's global cap) are
+ * dropped and counted rather than queued.
+ */
+public class ParticleEmitter {
+
+    // ===== ATTRIBUTES =====
+    private final TextureRegion region;
+    private final int budget;               // Max live particles from this emitter
+
+    private float x;
+    private float y;
+    private float rate;                     // Particles per second, 0 = bursts only
+    private float minLife = 0.5f;
+    private float maxLife = 1f;
+    private float minSpeed = 20f;
+    private float maxSpeed = 60f;
+    private float minAngle = 0f;            // Degrees
+    private float maxAngle = 360f;
+    private float gravity;                  // Added to vy every second
+    private float startSize = 8f;
+    private float endSize = 8f;
+    private final Color startColor = new Color(1f, 1f, 1f, 1f);
+    private final Color endColor = new Color(1f, 1f, 1f, 0f);
+    private boolean active = true;
+
+    // Managed by ParticleSystem
+    int index = -1;
+    int alive;
+    float spawnDebt;                        // Fractional particles owed by the rate
+    int pendingBurst;
+    long droppedSpawns;
+
+    // ===== CONSTRUCTORS =====
+
+    /**
+     * @param region Particle image (from the shared atlas)
+     * @param budget Max particles this emitter may have alive at once
+     */
+    public ParticleEmitter(TextureRegion region, int budget) {
+        if (region == null) {
+            throw new IllegalArgumentException("Particle region cannot be null");
+        }
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Emitter budget must be > 0");
+        }
+        this.region = region;
+        this.budget = budget;
+    }
+
+    // ===== SPAWNING =====
+
+    /**
+     * Spawn count particles on the next system update (still limited by the budget)
+     */
+    public void burst(int count) {
+        if (count > 0) {
+            pendingBurst += count;
+        }
+    }
+
+    // ===== SETTERS (chainable) =====
+
+    public ParticleEmitter setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public ParticleEmitter setRate(float particlesPerSecond) {
+        if (particlesPerSecond < 0f) {
+            throw new IllegalArgumentException("Rate must be >= 0");
+        }
+        this.rate = particlesPerSecond;
+        return this;
+    }
+
+    public ParticleEmitter setLife(float min, float max) {
+        if (min <= 0f || max < min) {
+            throw new IllegalArgumentException("Life range must be > 0 and min <= max");
+        }
+        this.minLife = min;
+        this.maxLife = max;
+        return this;
+    }
+
+    public ParticleEmitter setSpeed(float min, float max) {
+        this.minSpeed = min;
+        this.maxSpeed = max;
+        return this;
+    }
+
+    /**
+     * Launch direction range in degrees (0 = right, 90 = up)
+     */
+    public ParticleEmitter setAngle(float minDegrees, float maxDegrees) {
+        this.minAngle = minDegrees;
+        this.maxAngle = maxDegrees;
+        return this;
+    }
+
+    public ParticleEmitter setGravity(float gravity) {
+        this.gravity = gravity;
+        return this;
+    }
+
+    public ParticleEmitter setSize(float start, float end) {
+        this.startSize = start;
+        this.endSize = end;
+        return this;
+    }
+
+    public ParticleEmitter setColors(Color start, Color end) {
+        startColor.set(start);
+        endColor.set(end);
+        return this;
+    }
+
+    /**
+     * Inactive emitters stop spawning; their live particles play out
+     */
+    public ParticleEmitter setActive(boolean active) {
+        this.active = active;
+        return this;
+    }
+
+    // ===== GETTERS =====
+
+    public TextureRegion getRegion() {
+        return region;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getRate() {
+        return rate;
+    }
+
+    public float getMinLife() {
+        return minLife;
+    }
+
+    public float getMaxLife() {
+        return maxLife;
+    }
+
+    public float getMinSpeed() {
+        return minSpeed;
+    }
+
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public float getMinAngle() {
+        return minAngle;
+    }
+
+    public float getMaxAngle() {
+        return maxAngle;
+    }
+
+    public float getGravity() {
+        return gravity;
+    }
+
+    public float getStartSize() {
+        return startSize;
+    }
+
+    public float getEndSize() {
+        return endSize;
+    }
+
+    public Color getStartColor() {
+        return startColor;
+    }
+
+    public Color getEndColor() {
+        return endColor;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return Particles from this emitter currently alive
+     */
+    public int getAliveCount() {
+        return alive;
+    }
+
+    /**
+     * @return Spawns refused so far because of the emitter budget or global cap
+     */
+    public long getDroppedSpawns() {
+        return droppedSpawns;
+    }
+}
@@ -0,0 +1,383 @@
+package io.github.some_example_name.engine.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Lightweight particles for effects, kept out of EntityManager and
+ * CollisionManager entirely.
+ *
+ * Particle state lives in parallel primitive arrays sized to a global cap
+ * up front, so spawning never allocates. Live particles are packed at the
+ * front: a dead particle is replaced by the last live one (swap-remove),
+ * which keeps update() a single tight loop with no holes to skip. All
+ * emitters must draw from the same texture (one atlas page), so the whole
+ * system goes to the batch as a single vertex array.
+ */
+public class ParticleSystem {
+
+    // Floats per particle quad: 4 vertices * (x, y, color, u, v)
+    private static final int QUAD_FLOATS = 20;
+
+    // ===== PARTICLES (index < count are alive) =====
+    private final int maxParticles;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] age;
+    private final float[] life;
+    private final int[] emitterOf;
+    private int count;
+
+    // ===== EMITTERS =====
+    private final List<ParticleEmitter> emitters;
+    private Texture texture;
+
+    // Emitter settings copied into arrays once per update/draw, so the
+    // per-particle loops don't chase emitter references
+    private float[] gravityOf;
+    private float[] startSizeOf;
+    private float[] endSizeOf;
+    private float[] colorsOf;               // 8 per emitter: start rgba, end rgba
+    private float[] uvsOf;                  // 4 per emitter: u, v, u2, v2
+
+    private float[] vertices;
+    private final SplittableRandom random;
+
+    // ===== COUNTERS =====
+    private long droppedSpawns;
+    private int drawnLastFrame;
+
+    // ===== CONSTRUCTORS =====
+
+    /**
+     * @param maxParticles Global cap on live particles across all emitters
+     */
+    public ParticleSystem(int maxParticles) {
+        this(maxParticles, System.nanoTime());
+    }
+
+    /**
+     * @param maxParticles Global cap on live particles across all emitters
+     * @param seed Seed for spawn randomness, for reproducible effects
+     */
+    public ParticleSystem(int maxParticles, long seed) {
+        if (maxParticles <= 0) {
+            throw new IllegalArgumentException("Particle cap must be > 0");
+        }
+        this.maxParticles = maxParticles;
+        this.x = new float[maxParticles];
+        this.y = new float[maxParticles];
+        this.vx = new float[maxParticles];
+        this.vy = new float[maxParticles];
+        this.age = new float[maxParticles];
+        this.life = new float[maxParticles];
+        this.emitterOf = new int[maxParticles];
+        this.emitters = new ArrayList<>();
+        this.random = new SplittableRandom(seed);
+        this.vertices = new float[Math.min(maxParticles, 256) * QUAD_FLOATS];
+        resizeEmitterArrays(4);
+    }
+
+    // ===== EMITTER MANAGEMENT =====
+
+    public void addEmitter(ParticleEmitter emitter) {
+        if (emitter == null) {
+            throw new IllegalArgumentException("Emitter cannot be null");
+        }
+        if (emitter.index >= 0) {
+            throw new IllegalArgumentException("Emitter already belongs to a particle system");
+        }
+        Texture emitterTexture = emitter.getRegion().getTexture();
+        if (emitters.isEmpty()) {
+            texture = emitterTexture;
+        } else if (emitterTexture != texture) {
+            throw new IllegalArgumentException(
+                "All emitters in a ParticleSystem must use regions from the same texture page");
+        }
+        emitter.index = emitters.size();
+        emitters.add(emitter);
+        if (emitters.size() > gravityOf.length) {
+            resizeEmitterArrays(gravityOf.length * 2);
+        }
+    }
+
+    /**
+     * Remove an emitter and kill its live particles immediately
+     */
+    public void removeEmitter(ParticleEmitter emitter) {
+        int index = emitter.index;
+        if (index < 0 || index >= emitters.size() || emitters.get(index) != emitter) {
+            return;
+        }
+
+        int i = 0;
+        while (i < count) {
+            if (emitterOf[i] == index) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+
+        // Move the last emitter into the freed slot
+        int last = emitters.size() - 1;
+        ParticleEmitter moved = emitters.remove(last);
+        if (index != last) {
+            emitters.set(index, moved);
+            moved.index = index;
+            for (i = 0; i < count; i++) {
+                if (emitterOf[i] == last) {
+                    emitterOf[i] = index;
+                }
+            }
+        }
+        emitter.index = -1;
+        emitter.alive = 0;
+        if (emitters.isEmpty()) {
+            texture = null;
+        }
+    }
+
+    /**
+     * Kill every particle (emitters stay registered)
+     */
+    public void clear() {
+        count = 0;
+        for (int e = 0; e < emitters.size(); e++) {
+            emitters.get(e).alive = 0;
+        }
+    }
+
+    // ===== SIMULATION =====
+
+    public void update(float deltaTime) {
+        int emitterCount = emitters.size();
+
+        // 1. Spawn, within each emitter's budget and the global cap
+        for (int e = 0; e < emitterCount; e++) {
+            ParticleEmitter emitter = emitters.get(e);
+            gravityOf[e] = emitter.getGravity();
+
+            int wanted = emitter.pendingBurst;
+            emitter.pendingBurst = 0;
+            if (emitter.isActive()) {
+                emitter.spawnDebt += emitter.getRate() * deltaTime;
+                int due = (int) emitter.spawnDebt;
+                emitter.spawnDebt -= due;
+                wanted += due;
+            }
+            if (wanted > 0) {
+                spawn(emitter, wanted);
+            }
+        }
+
+        // 2. Age and integrate everything in one pass
+        int i = 0;
+        while (i < count) {
+            float a = age[i] + deltaTime;
+            if (a >= life[i]) {
+                remove(i);
+                continue;
+            }
+            age[i] = a;
+            vy[i] += gravityOf[emitterOf[i]] * deltaTime;
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+            i++;
+        }
+    }
+
+    private void spawn(ParticleEmitter emitter, int wanted) {
+        int allowed = Math.min(wanted, Math.min(emitter.getBudget() - emitter.alive, maxParticles - count));
+        if (allowed < 0) {
+            allowed = 0;
+        }
+        int dropped = wanted - allowed;
+        emitter.droppedSpawns += dropped;
+        droppedSpawns += dropped;
+
+        float minLife = emitter.getMinLife();
+        float lifeRange = emitter.getMaxLife() - minLife;
+        float minSpeed = emitter.getMinSpeed();
+        float speedRange = emitter.getMaxSpeed() - minSpeed;
+        float minAngle = emitter.getMinAngle();
+        float angleRange = emitter.getMaxAngle() - minAngle;
+
+        for (int n = 0; n < allowed; n++) {
+            int p = count++;
+            double angle = Math.toRadians(minAngle + random.nextDouble() * angleRange);
+            float speed = minSpeed + (float) random.nextDouble() * speedRange;
+            x[p] = emitter.getX();
+            y[p] = emitter.getY();
+            vx[p] = (float) Math.cos(angle) * speed;
+            vy[p] = (float) Math.sin(angle) * speed;
+            age[p] = 0f;
+            life[p] = minLife + (float) random.nextDouble() * lifeRange;
+            emitterOf[p] = emitter.index;
+        }
+        emitter.alive += allowed;
+    }
+
+    /**
+     * Swap-remove: the last live particle takes slot i
+     */
+    private void remove(int i) {
+        emitters.get(emitterOf[i]).alive--;
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            age[i] = age[last];
+            life[i] = life[last];
+            emitterOf[i] = emitterOf[last];
+        }
+    }
+
+    // ===== RENDERING =====
+
+    /**
+     * Submit every particle inside the view as one vertex array. The batch
+     * must be drawing; particles fade/resize from their emitter's start to
+     * end values over their life.
+     */
+    public void draw(Batch batch, float viewLeft, float viewBottom, float viewRight, float viewTop) {
+        drawnLastFrame = 0;
+        if (count == 0 || texture == null) {
+            return;
+        }
+        cacheDrawSettings();
+        if (vertices.length < count * QUAD_FLOATS) {
+            vertices = new float[Math.min(maxParticles, count * 2) * QUAD_FLOATS];
+        }
+
+        int v = 0;
+        for (int i = 0; i < count; i++) {
+            int e = emitterOf[i];
+            float t = age[i] / life[i];
+            float size = startSizeOf[e] + (endSizeOf[e] - startSizeOf[e]) * t;
+            float half = size / 2f;
+            float left = x[i] - half;
+            float bottom = y[i] - half;
+            float right = left + size;
+            float top = bottom + size;
+            if (left > viewRight || bottom > viewTop || right < viewLeft || top < viewBottom) {
+                continue;
+            }
+
+            int c = e * 8;
+            float color = Color.toFloatBits(
+                colorsOf[c] + (colorsOf[c + 4] - colorsOf[c]) * t,
+                colorsOf[c + 1] + (colorsOf[c + 5] - colorsOf[c + 1]) * t,
+                colorsOf[c + 2] + (colorsOf[c + 6] - colorsOf[c + 2]) * t,
+                colorsOf[c + 3] + (colorsOf[c + 7] - colorsOf[c + 3]) * t);
+            int uv = e * 4;
+            float u = uvsOf[uv];
+            float vTop = uvsOf[uv + 1];
+            float u2 = uvsOf[uv + 2];
+            float v2 = uvsOf[uv + 3];
+
+            // Same vertex order SpriteBatch uses for a region
+            vertices[v++] = left;
+            vertices[v++] = bottom;
+            vertices[v++] = color;
+            vertices[v++] = u;
+            vertices[v++] = v2;
+
+            vertices[v++] = left;
+            vertices[v++] = top;
+            vertices[v++] = color;
+            vertices[v++] = u;
+            vertices[v++] = vTop;
+
+            vertices[v++] = right;
+            vertices[v++] = top;
+            vertices[v++] = color;
+            vertices[v++] = u2;
+            vertices[v++] = vTop;
+
+            vertices[v++] = right;
+            vertices[v++] = bottom;
+            vertices[v++] = color;
+            vertices[v++] = u2;
+            vertices[v++] = v2;
+        }
+
+        if (v > 0) {
+            batch.draw(texture, vertices, 0, v);
+        }
+        drawnLastFrame = v / QUAD_FLOATS;
+    }
+
+    private void cacheDrawSettings() {
+        for (int e = 0; e < emitters.size(); e++) {
+            ParticleEmitter emitter = emitters.get(e);
+            startSizeOf[e] = emitter.getStartSize();
+            endSizeOf[e] = emitter.getEndSize();
+
+            Color start = emitter.getStartColor();
+            Color end = emitter.getEndColor();
+            int c = e * 8;
+            colorsOf[c] = start.r;
+            colorsOf[c + 1] = start.g;
+            colorsOf[c + 2] = start.b;
+            colorsOf[c + 3] = start.a;
+            colorsOf[c + 4] = end.r;
+            colorsOf[c + 5] = end.g;
+            colorsOf[c + 6] = end.b;
+            colorsOf[c + 7] = end.a;
+
+            TextureRegion region = emitter.getRegion();
+            int uv = e * 4;
+            uvsOf[uv] = region.getU();
+            uvsOf[uv + 1] = region.getV();
+            uvsOf[uv + 2] = region.getU2();
+            uvsOf[uv + 3] = region.getV2();
+        }
+    }
+
+    private void resizeEmitterArrays(int size) {
+        gravityOf = new float[size];
+        startSizeOf = new float[size];
+        endSizeOf = new float[size];
+        colorsOf = new float[size * 8];
+        uvsOf = new float[size * 4];
+    }
+
+    // ===== GETTERS =====
+
+    public int getAliveCount() {
+        return count;
+    }
+
+    public int getMaxParticles() {
+        return maxParticles;
+    }
+
+    public int getEmitterCount() {
+        return emitters.size();
+    }
+
+    /**
+     * @return Spawns refused so far across all emitters (budget or global cap)
+     */
+    public long getDroppedSpawns() {
+        return droppedSpawns;
+    }
+
+    /**
+     * @return Particles that passed the view check in the last draw()
+     */
+    public int getDrawnLastFrame() {
+        return drawnLastFrame;
+    }
+}
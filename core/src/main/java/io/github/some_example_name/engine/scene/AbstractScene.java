@@ -4,6 +4,7 @@ import io.github.some_example_name.engine.collision.Collidable;
 import io.github.some_example_name.engine.collision.CollisionManager;
 import io.github.some_example_name.engine.entity.Entity;
 import io.github.some_example_name.engine.entity.EntityManager;
+import io.github.some_example_name.engine.movement.AiScheduler;
 import io.github.some_example_name.engine.movement.MovementManager;
 
 import java.util.Collection;
@@ -14,12 +15,14 @@ import java.util.UUID;
 /**
  * Abstract engine scene implementation.
  * - Manages generic simulation elements (entities, movement, collisions)
+ * - Time-slices NPC decision-making through the AI scheduler
  */
 
 public abstract class AbstractScene implements EngineScreen{
     protected final EntityManager entityManager;
     protected final MovementManager movementManager;
     protected final CollisionManager collisionManager;
+    protected final AiScheduler aiScheduler;
 
     private final Set<Collidable> collidableRegistry;
     private boolean initialised;
@@ -29,6 +32,7 @@ public abstract class AbstractScene implements EngineScreen{
         this.entityManager = new EntityManager();
         this.movementManager = new MovementManager();
         this.collisionManager = new CollisionManager();
+        this.aiScheduler = new AiScheduler();
         this.collidableRegistry = new HashSet<>();
         this.initialised = false;
         this.disposed = false;
@@ -84,6 +88,8 @@ public abstract class AbstractScene implements EngineScreen{
         ensureInitialised();
         validateDelta(delta);
 
+        // Decisions first, then every entity integrates its movement
+        aiScheduler.update(delta);
         entityManager.update(delta);
         collisionManager.update();
 
@@ -117,6 +123,7 @@ public abstract class AbstractScene implements EngineScreen{
             collisionManager.removeCollidable(c);
         }
         collidableRegistry.clear();
+        aiScheduler.clear();
         entityManager.clear();
     }
 
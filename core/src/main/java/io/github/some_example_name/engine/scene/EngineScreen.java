@@ -4,6 +4,16 @@ public interface EngineScreen {
     void initialize();
     void update(float delta);
     void render(float delta);
+
+    /**
+     * Render with an interpolation factor between the last two simulation
+     * steps (0 = previous step, 1 = latest). Scenes that interpolate override
+     * this; the default ignores alpha.
+     */
+    default void render(float delta, float alpha) {
+        render(delta);
+    }
+
     void resize(int width, int height);
     void dispose();
 }
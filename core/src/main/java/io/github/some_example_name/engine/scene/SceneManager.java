@@ -1,5 +1,8 @@
 package io.github.some_example_name.engine.scene;
 
+import io.github.some_example_name.engine.io.DynamicInput;
+import io.github.some_example_name.engine.io.IOManager;
+
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -9,6 +12,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Scene coordinator.
  * Handles registration, activation, lifecycle dispatch, and cleanup.
+ *
+ * runFrame() updates with the raw frame delta by default. It can instead
+ * drive update() at a fixed timestep (accumulator, capped catch-up steps,
+ * interpolation alpha handed to render), or hand update() to a dedicated
+ * simulation thread and only render from the published TransformSnapshot.
  */
 
 public final class SceneManager {
@@ -18,12 +26,30 @@ public final class SceneManager {
     private final Map<String, EngineScreen> scenes;
     private final Set<EngineScreen> initialisedScenes;
 
-    private EngineScreen active;
-    private String activeName;
+    private volatile EngineScreen active;
+    private volatile String activeName;
+
+    // Non-null while update() runs on its own thread
+    private volatile SimulationThread simulation;
+
+    // Fixed timestep (fixedStep == 0 means variable delta)
+    private float fixedStep;
+    private int maxStepsPerFrame;
+    private float accumulator;
+    private long fixedTicks;
+    private long fixedDroppedSteps;
+    private int stepsLastFrame;
+    private final TransformSnapshot fixedTransforms;
+
+    // Per-frame render state, set by runFrame()
+    private TransformSnapshot frameTransforms;
+    private float alpha;
 
     private SceneManager() {
         this.scenes = new ConcurrentHashMap<>();
         this.initialisedScenes = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.fixedTransforms = new TransformSnapshot();
+        this.alpha = 1f;
     }
 
     public static synchronized SceneManager getInstance() {
@@ -121,9 +147,233 @@ public final class SceneManager {
         }
     }
 
+    /**
+     * One frame: update the active scene (directly, in fixed steps, or not at
+     * all when the simulation is threaded), then render it with the current
+     * interpolation alpha.
+     */
     public void runFrame(float delta) {
-        update(delta);
-        render(delta);
+        SimulationThread sim = simulation;
+        if (sim != null) {
+            if (sim.getFailure() != null) {
+                throw new IllegalStateException("Simulation thread failed", sim.getFailure());
+            }
+            frameTransforms = sim.acquireTransforms();
+            alpha = frameTransforms.getAlpha(System.nanoTime());
+            stepsLastFrame = 0;
+        } else if (fixedStep > 0f) {
+            advanceFixed(delta);
+            frameTransforms = fixedTransforms;
+        } else {
+            update(delta);
+            frameTransforms = null;
+            alpha = 1f;
+            stepsLastFrame = 1;
+        }
+
+        EngineScreen current = active;
+        if (current != null) {
+            current.render(delta, alpha);
+        }
+    }
+
+    // --- FIXED TIMESTEP ---
+
+    /**
+     * Update in fixed steps from now on. Frame time is accumulated and spent
+     * in whole steps; at most maxStepsPerFrame run per frame and any backlog
+     * beyond that is dropped, so one long frame can't snowball into longer
+     * and longer catch-up frames. Calling this again while running keeps the
+     * accumulated time, e.g. to lower the tick rate under load.
+     *
+     * @param stepSeconds Fixed update step, e.g. 1/60f
+     * @param maxStepsPerFrame Catch-up cap per frame (>= 1)
+     */
+    public void setFixedTimestep(float stepSeconds, int maxStepsPerFrame) {
+        if (!(stepSeconds > 0f) || Float.isInfinite(stepSeconds)) {
+            throw new IllegalArgumentException("Fixed step must be finite and > 0.");
+        }
+        if (maxStepsPerFrame < 1) {
+            throw new IllegalArgumentException("Max steps per frame must be >= 1.");
+        }
+        this.fixedStep = stepSeconds;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Go back to updating once per frame with the raw delta
+     */
+    public void clearFixedTimestep() {
+        fixedStep = 0f;
+        accumulator = 0f;
+        alpha = 1f;
+    }
+
+    public boolean isFixedTimestep() {
+        return fixedStep > 0f;
+    }
+
+    public float getFixedStep() {
+        return fixedStep;
+    }
+
+    private void advanceFixed(float delta) {
+        if (Float.isNaN(delta) || Float.isInfinite(delta) || delta < 0f) {
+            throw new IllegalArgumentException("Delta time must be finite and >= 0.");
+        }
+        accumulator += delta;
+
+        int steps = 0;
+        while (accumulator >= fixedStep) {
+            if (steps == maxStepsPerFrame) {
+                // Too far behind: drop the backlog but keep the sub-step remainder
+                long skipped = (long) (accumulator / fixedStep);
+                fixedDroppedSteps += skipped;
+                accumulator -= skipped * fixedStep;
+                break;
+            }
+            fixedTicks++;
+            step(fixedTransforms, fixedTicks, fixedStep);
+            accumulator -= fixedStep;
+            steps++;
+        }
+
+        stepsLastFrame = steps;
+        alpha = Math.min(Math.max(accumulator / fixedStep, 0f), 1f);
+    }
+
+    /**
+     * One simulation step of the active scene, with entity positions captured
+     * before and after it into the given snapshot. Shared by the fixed
+     * timestep loop and the simulation thread.
+     */
+    synchronized void step(TransformSnapshot snapshot, long tick, float stepSeconds) {
+        EngineScreen scene = active;
+        if (scene instanceof AbstractScene) {
+            snapshot.captureBefore(((AbstractScene) scene).getEntities());
+            scene.update(stepSeconds);
+            snapshot.captureAfter(tick, stepSeconds);
+        } else {
+            if (scene != null) {
+                scene.update(stepSeconds);
+            }
+            snapshot.clear(tick, stepSeconds);
+        }
+    }
+
+    /**
+     * Interpolation factor passed to render this frame: how far real time
+     * has moved past the last simulation step, as a fraction of a step
+     * (always 1 with a variable delta)
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * @return Update steps run by the last runFrame() (0 when threaded)
+     */
+    public int getStepsLastFrame() {
+        return stepsLastFrame;
+    }
+
+    /**
+     * @return Fixed steps dropped by the catch-up cap since startup
+     */
+    public long getDroppedFixedSteps() {
+        return fixedDroppedSteps;
+    }
+
+    // --- THREADED SIMULATION ---
+
+    /**
+     * Move update() onto a dedicated thread ticking at a fixed rate.
+     * From then on runFrame() only renders; scenes should draw from
+     * getTransforms() and leave entity changes to their update hooks.
+     * Input queries made from update() read the engine input's per-tick
+     * snapshot.
+     *
+     * @param stepSeconds Fixed simulation step, e.g. 1/60f
+     */
+    public synchronized void startSimulationThread(float stepSeconds) {
+        startSimulationThread(stepSeconds, IOManager.getInstance().getDynamicInput());
+    }
+
+    /**
+     * @param stepSeconds Fixed simulation step, e.g. 1/60f
+     * @param input Input handed to every tick, or null if the simulation reads none
+     */
+    public synchronized void startSimulationThread(float stepSeconds, DynamicInput input) {
+        if (!(stepSeconds > 0f) || Float.isInfinite(stepSeconds)) {
+            throw new IllegalArgumentException("Simulation step must be finite and > 0.");
+        }
+        if (simulation != null) {
+            throw new IllegalStateException("Simulation thread already running.");
+        }
+        simulation = new SimulationThread(this, stepSeconds, input);
+        simulation.start();
+    }
+
+    /**
+     * Stop the simulation thread and go back to updating in runFrame()
+     */
+    public void stopSimulationThread() {
+        SimulationThread sim;
+        synchronized (this) {
+            sim = simulation;
+            simulation = null;
+        }
+        // Join outside the lock, the final tick may still need it
+        if (sim != null) {
+            sim.stop();
+        }
+    }
+
+    public boolean isSimulationThreaded() {
+        return simulation != null;
+    }
+
+    /**
+     * Transforms to draw this frame: the snapshot picked up by runFrame(),
+     * from either the simulation thread or the last fixed step. Interpolate
+     * with getAlpha(). Render thread only.
+     *
+     * @return Snapshot, or null with a variable delta
+     */
+    public TransformSnapshot getTransforms() {
+        return frameTransforms;
+    }
+
+    /**
+     * @return How far the simulation thread is behind its schedule (ms), 0 when not threaded
+     */
+    public float getSimulationLagMillis() {
+        SimulationThread sim = simulation;
+        return sim != null ? sim.getLagNanos() / 1_000_000f : 0f;
+    }
+
+    /**
+     * @return Duration of the last simulation tick (ms), 0 when not threaded
+     */
+    public float getSimulationTickMillis() {
+        SimulationThread sim = simulation;
+        return sim != null ? sim.getLastTickNanos() / 1_000_000f : 0f;
+    }
+
+    /**
+     * @return Ticks run by the current simulation thread
+     */
+    public long getSimulationTicks() {
+        SimulationThread sim = simulation;
+        return sim != null ? sim.getTicks() : 0L;
+    }
+
+    /**
+     * @return Steps skipped because the simulation fell too far behind
+     */
+    public long getSimulationDroppedSteps() {
+        SimulationThread sim = simulation;
+        return sim != null ? sim.getDroppedSteps() : 0L;
     }
 
     public void resize(int width, int height) {
@@ -133,7 +383,12 @@ public final class SceneManager {
         }
     }
 
-    public synchronized void dispose() {
+    public void dispose() {
+        stopSimulationThread();
+        disposeScenes();
+    }
+
+    private synchronized void disposeScenes() {
         Set<EngineScreen> uniqueScenes = Collections.newSetFromMap(new IdentityHashMap<>());
         uniqueScenes.addAll(scenes.values());
 
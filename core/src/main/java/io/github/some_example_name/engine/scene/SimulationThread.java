@@ -0,0 +1,145 @@
+package io.github.some_example_name.engine.scene;
+
+import io.github.some_example_name.engine.io.DynamicInput;
+import io.github.some_example_name.engine.io.InputHandoff;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs SceneManager.update() on its own thread at a fixed rate.
+ *
+ * Before every tick the input the render thread published since the last
+ * one is taken as a single snapshot (InputHandoff), so update() never reads
+ * input state the render thread is changing.
+ * After every tick the active scene's entity transforms are published
+ * through a TransformBuffer, so the render thread can interpolate and draw
+ * them without touching live simulation state. If the simulation falls more
+ * than a few steps behind, the backlog is dropped rather than letting it
+ * spiral.
+ */
+final class SimulationThread implements Runnable {
+
+    private static final int MAX_BACKLOG_STEPS = 5;
+
+    private final SceneManager sceneManager;
+    private final TransformBuffer transforms;
+    private final DynamicInput input;       // Null when the simulation reads no input
+    private final InputHandoff tickInput;
+    private final float stepSeconds;
+    private final long stepNanos;
+    private final Thread thread;
+
+    private volatile boolean running;
+    private volatile Throwable failure;
+
+    // Metrics (written by the simulation thread, read by anyone)
+    private volatile long ticks;
+    private volatile long lagNanos;
+    private volatile long lastTickNanos;
+    private volatile long droppedSteps;
+
+    SimulationThread(SceneManager sceneManager, float stepSeconds, DynamicInput input) {
+        this.sceneManager = sceneManager;
+        this.transforms = new TransformBuffer();
+        this.input = input;
+        this.tickInput = input != null ? input.openHandoff() : null;
+        this.stepSeconds = stepSeconds;
+        this.stepNanos = (long) (stepSeconds * 1_000_000_000.0);
+        this.thread = new Thread(this, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stop after the current tick and wait for the thread to finish
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (input != null) {
+            input.closeHandoff();
+        }
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                if (now < next) {
+                    LockSupport.parkNanos(next - now);
+                    continue;
+                }
+
+                tick();
+                next += stepNanos;
+
+                long behind = System.nanoTime() - next;
+                lagNanos = Math.max(0L, behind);
+                if (behind > MAX_BACKLOG_STEPS * stepNanos) {
+                    droppedSteps += behind / stepNanos;
+                    next = System.nanoTime();
+                }
+            }
+        } catch (Throwable t) {
+            failure = t;
+            running = false;
+        }
+    }
+
+    private void tick() {
+        long start = System.nanoTime();
+        TransformSnapshot snapshot = transforms.writeBuffer();
+        if (tickInput != null) {
+            tickInput.consume();
+        }
+
+        // Scene lifecycle calls (load/unload/setActive) synchronise on the
+        // manager too, so they only ever happen between ticks
+        sceneManager.step(snapshot, ticks + 1, stepSeconds);
+
+        transforms.publish();
+        ticks++;
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    TransformSnapshot acquireTransforms() {
+        return transforms.acquire();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    Throwable getFailure() {
+        return failure;
+    }
+
+    long getTicks() {
+        return ticks;
+    }
+
+    long getLagNanos() {
+        return lagNanos;
+    }
+
+    long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
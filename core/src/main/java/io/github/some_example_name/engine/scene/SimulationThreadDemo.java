@@ -0,0 +1,195 @@
+package io.github.some_example_name.engine.scene;
+
+import com.badlogic.gdx.Input;
+
+import io.github.some_example_name.engine.entity.Entity;
+import io.github.some_example_name.engine.io.DynamicInput;
+
+/**
+ * Stress check for the threaded simulation.
+ *
+ * Every entity moves exactly +1 on both axes per tick and a new one is
+ * spawned every few ticks, so in a consistent snapshot x == y for every
+ * entity, each one moved by exactly 1, and entity count only grows. The
+ * "render" loop here checks that for every snapshot it gets while
+ * pretending each frame takes a few milliseconds, then prints the
+ * simulation lag.
+ *
+ * Input goes the other way: every frame the render loop presses or releases
+ * two keys in different snapshot words together, and taps a third key down
+ * and up within one frame whenever the simulation has ticked three times
+ * since the last tap (so every tap is pressed and released in ticks of its
+ * own, however slow the machine).
+ * Each tick checks the pair always agrees, and every tap must reach the
+ * simulation exactly once.
+ *
+ * Any torn snapshot, lost or repeated tap makes main() throw, so the
+ * simulationThreadCheck Gradle task (part of check) fails the build.
+ */
+public class SimulationThreadDemo {
+
+    private static final float STEP = 1f / 60f;
+    private static final int START_ENTITIES = 2_000;
+    private static final long RUN_MILLIS = 3_000L;
+    private static final long SETTLE_TIMEOUT_MILLIS = 30_000L;
+
+    // Keys 29 and 144 live in different words of the key snapshot
+    private static final int PAIR_A = Input.Keys.A;
+    private static final int PAIR_B = Input.Keys.NUMPAD_0;
+    private static final int TAP = Input.Keys.SPACE;
+
+    public static void main(String[] args) throws InterruptedException {
+        DynamicInput input = new DynamicInput();
+        CountingScene scene = new CountingScene(input);
+        SceneManager manager = SceneManager.getInstance();
+        manager.load("demo", scene);
+        manager.setActive("demo");
+        manager.startSimulationThread(STEP, input);
+
+        long frames = 0;
+        long taps = 0;
+        long tapTick = -3;
+        long torn = 0;
+        long lastTick = -1;
+        int lastSize = 0;
+        float worstLag = 0f;
+        long end = System.currentTimeMillis() + RUN_MILLIS;
+
+        while (System.currentTimeMillis() < end) {
+            if (frames % 2 == 0) {
+                input.keyDown(PAIR_A);
+                input.keyDown(PAIR_B);
+            } else {
+                input.keyUp(PAIR_A);
+                input.keyUp(PAIR_B);
+            }
+            // The tick running now may have taken its input already, so a
+            // tap is only certain to be consumed two ticks later, and seen
+            // released one tick after that
+            long ticksNow = manager.getSimulationTicks();
+            if (ticksNow >= tapTick + 3) {
+                input.keyDown(TAP);
+                input.keyUp(TAP);
+                taps++;
+                tapTick = ticksNow;
+            }
+            input.update(0.007f);
+
+            manager.runFrame(0f);
+            TransformSnapshot snapshot = manager.getTransforms();
+            if (snapshot.getTick() > 0) {
+                if (snapshot.getTick() < lastTick || snapshot.size() < lastSize
+                        || !isConsistent(snapshot)) {
+                    torn++;
+                }
+                lastTick = snapshot.getTick();
+                lastSize = snapshot.size();
+            }
+            worstLag = Math.max(worstLag, manager.getSimulationLagMillis());
+            frames++;
+
+            // Render work, deliberately out of step with the 60 Hz simulation
+            Thread.sleep(7);
+        }
+
+        // Let the last tap reach a tick; dispose() then joins the thread
+        long settleEnd = System.currentTimeMillis() + SETTLE_TIMEOUT_MILLIS;
+        while (manager.getSimulationTicks() < tapTick + 2) {
+            if (System.currentTimeMillis() > settleEnd) {
+                manager.dispose();
+                throw new IllegalStateException("Simulation did not tick for " + SETTLE_TIMEOUT_MILLIS + " ms");
+            }
+            Thread.sleep(5);
+        }
+        long ticks = manager.getSimulationTicks();
+        float tickMs = manager.getSimulationTickMillis();
+        long dropped = manager.getSimulationDroppedSteps();
+        manager.dispose();
+
+        System.out.println("=== Simulation Thread Demo ===");
+        System.out.println("Render frames:   " + frames);
+        System.out.println("Sim ticks:       " + ticks + " (expected ~" + (RUN_MILLIS * 60 / 1000) + ")");
+        System.out.println("Entities:        " + lastSize);
+        System.out.printf("Last tick:       %.3f ms%n", tickMs);
+        System.out.printf("Worst lag:       %.3f ms%n", worstLag);
+        System.out.println("Dropped steps:   " + dropped);
+        System.out.println("Torn snapshots:  " + torn);
+        System.out.println("Taps sent/seen:  " + taps + " / " + scene.tapsSeen);
+        System.out.println("Torn input:      " + scene.tornInput);
+
+        if (torn > 0 || scene.tornInput > 0) {
+            throw new IllegalStateException("Torn snapshots: " + torn + " transforms, "
+                    + scene.tornInput + " input");
+        }
+        if (scene.tapsSeen != taps) {
+            throw new IllegalStateException("Sent " + taps + " taps, simulation saw " + scene.tapsSeen);
+        }
+    }
+
+    private static boolean isConsistent(TransformSnapshot snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            float px = snapshot.getX(i, 0f);
+            float py = snapshot.getY(i, 0f);
+            float cx = snapshot.getX(i, 1f);
+            float cy = snapshot.getY(i, 1f);
+            if (px != py || cx != cy || cx - px != 1f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class CountingScene extends AbstractScene {
+
+        private final DynamicInput input;
+        private int tick;
+
+        // Simulation thread only, read after it has been joined
+        private long tapsSeen;
+        private long tornInput;
+
+        CountingScene(DynamicInput input) {
+            this.input = input;
+        }
+
+        @Override
+        protected void onInitialise() {
+            for (int i = 0; i < START_ENTITIES; i++) {
+                createEntity(new Stepper(i));
+            }
+        }
+
+        @Override
+        protected void onUpdate(float delta) {
+            if (++tick % 10 == 0) {
+                createEntity(new Stepper(0));
+            }
+
+            if (input.isKeyPressed(PAIR_A) != input.isKeyPressed(PAIR_B)
+                    || input.isKeyJustPressed(PAIR_A) != input.isKeyJustPressed(PAIR_B)
+                    || input.isKeyJustReleased(PAIR_A) != input.isKeyJustReleased(PAIR_B)) {
+                tornInput++;
+            }
+            if (input.isKeyJustPressed(TAP)) {
+                tapsSeen++;
+            }
+        }
+
+        @Override
+        public void render(float delta) {
+            // Drawing happens from the snapshot in main()
+        }
+    }
+
+    private static final class Stepper extends Entity {
+
+        Stepper(float start) {
+            super(start, start);
+        }
+
+        @Override
+        public void update(float deltaTime) {
+            setPosition(getPositionX() + 1f, getPositionY() + 1f);
+        }
+    }
+}
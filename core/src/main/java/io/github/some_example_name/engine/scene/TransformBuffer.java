@@ -0,0 +1,55 @@
+package io.github.some_example_name.engine.scene;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer of TransformSnapshots.
+ *
+ * The simulation thread owns one buffer, the render thread owns another and
+ * the third is parked in the middle. Publishing and acquiring are a single
+ * atomic swap each, so neither thread ever blocks the other or sees a
+ * buffer the other is still using.
+ */
+final class TransformBuffer {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final TransformSnapshot[] buffers;
+    private final AtomicInteger middle;     // Index of the parked buffer | FRESH
+    private int writeIndex;                 // Simulation thread only
+    private int readIndex;                  // Render thread only
+
+    TransformBuffer() {
+        buffers = new TransformSnapshot[] {
+            new TransformSnapshot(), new TransformSnapshot(), new TransformSnapshot()
+        };
+        writeIndex = 0;
+        middle = new AtomicInteger(1);
+        readIndex = 2;
+    }
+
+    /**
+     * @return The buffer the simulation thread may fill
+     */
+    TransformSnapshot writeBuffer() {
+        return buffers[writeIndex];
+    }
+
+    /**
+     * Hand the filled write buffer over to the render side
+     */
+    void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * @return The newest published snapshot (the previous one if nothing new arrived)
+     */
+    TransformSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return buffers[readIndex];
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.some_example_name.engine.scene;
+
+import io.github.some_example_name.engine.entity.Entity;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Entity transforms captured by the simulation thread for one tick.
+ *
+ * Holds each entity's position before and after the tick, so the render
+ * thread can interpolate between them. A snapshot is only ever written by
+ * the simulation thread and only read by the render thread after it has
+ * been handed over through TransformBuffer, so it is never seen half-written.
+ */
+public final class TransformSnapshot {
+
+    private Entity[] entities;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] currentX;
+    private float[] currentY;
+    private int count;
+
+    private long tick;
+    private long publishNanos;
+    private float stepSeconds;
+
+    TransformSnapshot() {
+        entities = new Entity[64];
+        previousX = new float[64];
+        previousY = new float[64];
+        currentX = new float[64];
+        currentY = new float[64];
+    }
+
+    // --- WRITER SIDE (simulation thread) ---
+
+    /**
+     * Record which entities exist and where they are before the tick
+     */
+    void captureBefore(Collection<Entity> source) {
+        // Drop references from the last time this buffer was used
+        for (int i = 0; i < count; i++) {
+            entities[i] = null;
+        }
+        count = 0;
+        ensureCapacity(source.size());
+        for (Entity entity : source) {
+            entities[count] = entity;
+            previousX[count] = entity.getPositionX();
+            previousY[count] = entity.getPositionY();
+            count++;
+        }
+    }
+
+    /**
+     * Record where the same entities ended up after the tick
+     */
+    void captureAfter(long tick, float stepSeconds) {
+        for (int i = 0; i < count; i++) {
+            currentX[i] = entities[i].getPositionX();
+            currentY[i] = entities[i].getPositionY();
+        }
+        this.tick = tick;
+        this.stepSeconds = stepSeconds;
+        this.publishNanos = System.nanoTime();
+    }
+
+    void clear(long tick, float stepSeconds) {
+        captureBefore(Collections.<Entity>emptyList());
+        captureAfter(tick, stepSeconds);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (entities.length >= needed) {
+            return;
+        }
+        int capacity = Math.max(needed, entities.length * 2);
+        entities = new Entity[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        currentX = new float[capacity];
+        currentY = new float[capacity];
+    }
+
+    // --- READER SIDE (render thread) ---
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Entity identity only - its live fields belong to the simulation thread,
+     * so read positions through this snapshot instead.
+     */
+    public Entity getEntity(int index) {
+        return entities[index];
+    }
+
+    public float getX(int index, float alpha) {
+        return previousX[index] + (currentX[index] - previousX[index]) * alpha;
+    }
+
+    public float getY(int index, float alpha) {
+        return previousY[index] + (currentY[index] - previousY[index]) * alpha;
+    }
+
+    /**
+     * Interpolation factor for 'now': 0 at publication, 1 one step later
+     */
+    public float getAlpha(long nowNanos) {
+        if (stepSeconds <= 0f) {
+            return 1f;
+        }
+        float alpha = (nowNanos - publishNanos) / (stepSeconds * 1_000_000_000f);
+        return alpha < 0f ? 0f : (alpha > 1f ? 1f : alpha);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+}
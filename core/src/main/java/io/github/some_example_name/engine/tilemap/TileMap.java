@@ -0,0 +1,155 @@
+package io.github.some_example_name.engine.tilemap;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+/**
+ * Grid of tile ids on one or more layers, plus the tileset they index.
+ *
+ * Tile id 0 means "empty". Layer 0 is drawn first. Edits go through
+ * setTile() so a renderer can rebuild only the chunk that changed.
+ */
+public class TileMap {
+
+    public static final int EMPTY = 0;
+
+    /**
+     * Notified whenever a tile changes (the renderer uses this to mark chunks dirty)
+     */
+    public interface ChangeListener {
+        void tileChanged(int layer, int tileX, int tileY);
+
+        void layerChanged(int layer);
+    }
+
+    // ===== ATTRIBUTES =====
+    private final int width;                // In tiles
+    private final int height;               // In tiles
+    private final float tileSize;           // World units per tile
+    private final float originX;            // World position of tile (0, 0)
+    private final float originY;
+    private final int[][] tiles;            // [layer][tileY * width + tileX]
+    private TextureRegion[] tileset;        // Indexed by tile id
+    private ChangeListener listener;
+
+    // ===== CONSTRUCTORS =====
+
+    public TileMap(int width, int height, int layers, float tileSize) {
+        this(width, height, layers, tileSize, 0f, 0f);
+    }
+
+    public TileMap(int width, int height, int layers, float tileSize, float originX, float originY) {
+        if (width <= 0 || height <= 0 || layers <= 0) {
+            throw new IllegalArgumentException("Tile map dimensions and layer count must be > 0");
+        }
+        if (!(tileSize > 0)) {
+            throw new IllegalArgumentException("Tile size must be > 0");
+        }
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.originX = originX;
+        this.originY = originY;
+        this.tiles = new int[layers][width * height];
+        this.tileset = new TextureRegion[16];
+    }
+
+    // ===== TILESET =====
+
+    /**
+     * Assign the image drawn for a tile id (id 0 is reserved for empty)
+     */
+    public void setTileRegion(int id, TextureRegion region) {
+        if (id <= EMPTY) {
+            throw new IllegalArgumentException("Tile id must be > 0");
+        }
+        if (id >= tileset.length) {
+            TextureRegion[] grown = new TextureRegion[Math.max(id + 1, tileset.length * 2)];
+            System.arraycopy(tileset, 0, grown, 0, tileset.length);
+            tileset = grown;
+        }
+        tileset[id] = region;
+    }
+
+    /**
+     * @return Region for a tile id, or null if empty / unassigned
+     */
+    public TextureRegion getTileRegion(int id) {
+        return id > EMPTY && id < tileset.length ? tileset[id] : null;
+    }
+
+    // ===== TILES =====
+
+    public int getTile(int layer, int tileX, int tileY) {
+        checkBounds(layer, tileX, tileY);
+        return tiles[layer][tileY * width + tileX];
+    }
+
+    public void setTile(int layer, int tileX, int tileY, int id) {
+        checkBounds(layer, tileX, tileY);
+        if (id < EMPTY) {
+            throw new IllegalArgumentException("Tile id cannot be negative");
+        }
+        int index = tileY * width + tileX;
+        if (tiles[layer][index] == id) {
+            return;
+        }
+        tiles[layer][index] = id;
+        if (listener != null) {
+            listener.tileChanged(layer, tileX, tileY);
+        }
+    }
+
+    /**
+     * Fill the whole layer at once (one notification instead of one per tile)
+     */
+    public void fill(int layer, int id) {
+        checkBounds(layer, 0, 0);
+        if (id < EMPTY) {
+            throw new IllegalArgumentException("Tile id cannot be negative");
+        }
+        Arrays.fill(tiles[layer], id);
+        if (listener != null) {
+            listener.layerChanged(layer);
+        }
+    }
+
+    void setListener(ChangeListener listener) {
+        this.listener = listener;
+    }
+
+    private void checkBounds(int layer, int tileX, int tileY) {
+        if (layer < 0 || layer >= tiles.length
+                || tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) {
+            throw new IndexOutOfBoundsException(
+                    "Tile out of range: layer " + layer + " (" + tileX + ", " + tileY + ")");
+        }
+    }
+
+    // ===== GETTERS =====
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLayerCount() {
+        return tiles.length;
+    }
+
+    public float getTileSize() {
+        return tileSize;
+    }
+
+    public float getOriginX() {
+        return originX;
+    }
+
+    public float getOriginY() {
+        return originY;
+    }
+}
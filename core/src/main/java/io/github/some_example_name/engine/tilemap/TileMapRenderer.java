@@ -0,0 +1,312 @@
+package io.github.some_example_name.engine.tilemap;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+/**
+ * Draws a TileMap from static geometry cached on the GPU.
+ *
+ * The map is cut into square chunks; each (chunk, layer) pair is baked into
+ * one SpriteCache cache. Per frame only the chunks overlapping the view are
+ * drawn, and editing a tile re-bakes just its chunk. Each chunk reserves a
+ * little headroom (padded with zero-size sprites) so edits can add tiles in
+ * place; only when a chunk outgrows its reservation is the whole cache
+ * rebuilt.
+ */
+public class TileMapRenderer implements Disposable, TileMap.ChangeListener {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+
+    // SpriteCache can only index this many sprites
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    // ===== ATTRIBUTES =====
+    private final TileMap map;
+    private final int chunkSize;            // In tiles
+    private final int chunksX;
+    private final int chunksY;
+    private final int layers;
+
+    // Per (chunk, layer) slot: slot = (chunkY * chunksX + chunkX) * layers + layer
+    private final int[] cacheIds;
+    private final int[] capacity;           // Sprites reserved in the cache
+    private final int[] tileCount;          // Real (non-empty) tiles
+    private final boolean[] dirty;
+
+    private SpriteCache cache;
+    private TextureRegion padRegion;        // Any tile image, used for zero-size padding
+    private boolean fullRebuild;
+    private boolean anyDirty;
+
+    // ===== COUNTERS (last frame) =====
+    private int chunksDrawn;
+    private int chunksRebuilt;
+    private int renderCalls;
+
+    // ===== CONSTRUCTORS =====
+
+    public TileMapRenderer(TileMap map) {
+        this(map, DEFAULT_CHUNK_SIZE);
+    }
+
+    public TileMapRenderer(TileMap map, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be > 0");
+        }
+        this.map = map;
+        this.chunkSize = chunkSize;
+        this.chunksX = (map.getWidth() + chunkSize - 1) / chunkSize;
+        this.chunksY = (map.getHeight() + chunkSize - 1) / chunkSize;
+        this.layers = map.getLayerCount();
+
+        int slots = chunksX * chunksY * layers;
+        this.cacheIds = new int[slots];
+        this.capacity = new int[slots];
+        this.tileCount = new int[slots];
+        this.dirty = new boolean[slots];
+        this.fullRebuild = true;
+
+        map.setListener(this);
+    }
+
+    // ===== CHANGE TRACKING =====
+
+    @Override
+    public void tileChanged(int layer, int tileX, int tileY) {
+        int slot = slotOf(tileX / chunkSize, tileY / chunkSize, layer);
+        dirty[slot] = true;
+        anyDirty = true;
+    }
+
+    @Override
+    public void layerChanged(int layer) {
+        // Tile counts may change everywhere - cheaper to re-plan the whole cache
+        fullRebuild = true;
+    }
+
+    // ===== RENDERING =====
+
+    /**
+     * Draw every chunk overlapping the given world-space view rectangle.
+     * Must not be called while a SpriteBatch is drawing.
+     *
+     * @param projection Camera combined matrix
+     */
+    public void render(Matrix4 projection, float viewLeft, float viewBottom, float viewRight, float viewTop) {
+        chunksRebuilt = 0;
+        chunksDrawn = 0;
+        renderCalls = 0;
+
+        if (fullRebuild) {
+            rebuildAll();
+        } else if (anyDirty) {
+            rebuildDirty();
+        }
+        if (cache == null) {
+            return;
+        }
+
+        float chunkWorld = chunkSize * map.getTileSize();
+        int fromX = Math.max(0, (int) Math.floor((viewLeft - map.getOriginX()) / chunkWorld));
+        int toX = Math.min(chunksX - 1, (int) Math.floor((viewRight - map.getOriginX()) / chunkWorld));
+        int fromY = Math.max(0, (int) Math.floor((viewBottom - map.getOriginY()) / chunkWorld));
+        int toY = Math.min(chunksY - 1, (int) Math.floor((viewTop - map.getOriginY()) / chunkWorld));
+        if (fromX > toX || fromY > toY) {
+            return;
+        }
+
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        // Layer-major, so an upper layer overlaps its neighbours' lower layers
+        for (int layer = 0; layer < layers; layer++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                for (int cx = fromX; cx <= toX; cx++) {
+                    int slot = slotOf(cx, cy, layer);
+                    if (tileCount[slot] > 0) {
+                        cache.draw(cacheIds[slot]);
+                        chunksDrawn++;
+                    }
+                }
+            }
+        }
+        cache.end();
+        renderCalls = cache.renderCalls;
+    }
+
+    // ===== BAKING =====
+
+    /**
+     * Re-plan reservations and bake every chunk into a fresh cache
+     */
+    private void rebuildAll() {
+        padRegion = findPadRegion();
+        int total = 0;
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                for (int layer = 0; layer < layers; layer++) {
+                    int slot = slotOf(cx, cy, layer);
+                    int count = countTiles(cx, cy, layer);
+                    tileCount[slot] = count;
+                    // Headroom for edits, never more than the chunk can hold
+                    int full = chunkSize * chunkSize;
+                    capacity[slot] = padRegion == null ? 0 : Math.min(full, count + count / 4 + 4);
+                    total += capacity[slot];
+                }
+            }
+        }
+
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        fullRebuild = false;
+        anyDirty = false;
+        Arrays.fill(dirty, false);
+        if (total == 0) {
+            return;
+        }
+
+        cache = new SpriteCache(total, total <= MAX_INDEXED_SPRITES);
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                for (int layer = 0; layer < layers; layer++) {
+                    int slot = slotOf(cx, cy, layer);
+                    cache.beginCache();
+                    bake(cx, cy, layer, capacity[slot]);
+                    cacheIds[slot] = cache.endCache();
+                    chunksRebuilt++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-bake only the chunks whose tiles changed, in place
+     */
+    private void rebuildDirty() {
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                for (int layer = 0; layer < layers; layer++) {
+                    int slot = slotOf(cx, cy, layer);
+                    if (!dirty[slot]) {
+                        continue;
+                    }
+                    int count = countTiles(cx, cy, layer);
+                    if (cache == null || count > capacity[slot]) {
+                        // Outgrew the reservation - start over with new headroom
+                        rebuildAll();
+                        return;
+                    }
+                    tileCount[slot] = count;
+                    cache.beginCache(cacheIds[slot]);
+                    bake(cx, cy, layer, capacity[slot]);
+                    cache.endCache();
+                    dirty[slot] = false;
+                    chunksRebuilt++;
+                }
+            }
+        }
+        anyDirty = false;
+    }
+
+    /**
+     * Add one chunk's tiles to the open cache, padded to exactly 'reserved' sprites
+     */
+    private void bake(int chunkX, int chunkY, int layer, int reserved) {
+        float size = map.getTileSize();
+        int added = 0;
+        TextureRegion last = padRegion;
+
+        int endX = Math.min(map.getWidth(), (chunkX + 1) * chunkSize);
+        int endY = Math.min(map.getHeight(), (chunkY + 1) * chunkSize);
+        for (int ty = chunkY * chunkSize; ty < endY; ty++) {
+            for (int tx = chunkX * chunkSize; tx < endX; tx++) {
+                TextureRegion region = map.getTileRegion(map.getTile(layer, tx, ty));
+                if (region == null) {
+                    continue;
+                }
+                cache.add(region, map.getOriginX() + tx * size, map.getOriginY() + ty * size, size, size);
+                last = region;
+                added++;
+            }
+        }
+
+        // Zero-size sprites keep the cache at its reserved length (same texture as
+        // the last tile, so padding never adds a texture switch)
+        for (; added < reserved; added++) {
+            cache.add(last, 0f, 0f, 0f, 0f);
+        }
+    }
+
+    private int countTiles(int chunkX, int chunkY, int layer) {
+        int count = 0;
+        int endX = Math.min(map.getWidth(), (chunkX + 1) * chunkSize);
+        int endY = Math.min(map.getHeight(), (chunkY + 1) * chunkSize);
+        for (int ty = chunkY * chunkSize; ty < endY; ty++) {
+            for (int tx = chunkX * chunkSize; tx < endX; tx++) {
+                if (map.getTileRegion(map.getTile(layer, tx, ty)) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private TextureRegion findPadRegion() {
+        for (int layer = 0; layer < layers; layer++) {
+            for (int ty = 0; ty < map.getHeight(); ty++) {
+                for (int tx = 0; tx < map.getWidth(); tx++) {
+                    TextureRegion region = map.getTileRegion(map.getTile(layer, tx, ty));
+                    if (region != null) {
+                        return region;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private int slotOf(int chunkX, int chunkY, int layer) {
+        return (chunkY * chunksX + chunkX) * layers + layer;
+    }
+
+    // ===== GETTERS =====
+
+    /**
+     * @return (chunk, layer) caches drawn last frame
+     */
+    public int getChunksDrawn() {
+        return chunksDrawn;
+    }
+
+    /**
+     * @return GL draw calls the last render() issued
+     */
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+
+    /**
+     * @return (chunk, layer) caches re-baked last frame
+     */
+    public int getChunksRebuilt() {
+        return chunksRebuilt;
+    }
+
+    public TileMap getMap() {
+        return map;
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        map.setListener(null);
+    }
+}
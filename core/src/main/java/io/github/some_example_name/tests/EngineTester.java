@@ -26,7 +26,8 @@ public class EngineTester extends ApplicationAdapter {
 
     @Override
     public void render() {
-        float dt = Gdx.graphics.getDeltaTime();
+        // Recorded with the real frame delta, replayed with the recorded one
+        float dt = io.getDynamicInput().update(Gdx.graphics.getDeltaTime());
 
         // --- TEST INPUT ---
         // We use our DynamicInput manager, not Gdx.input directly
@@ -44,7 +45,7 @@ public class EngineTester extends ApplicationAdapter {
         }
 
         // Test Mouse Input
-        if (Gdx.input.justTouched()) {
+        if (io.getDynamicInput().isJustTouched()) {
             System.out.println("Click at: " + io.getDynamicInput().getMousePosition());
             // Test Audio (Only works if you actually have a file named 'beep.mp3' in
             // assets)
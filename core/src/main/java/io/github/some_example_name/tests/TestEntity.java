@@ -1,34 +1,34 @@
 package io.github.some_example_name.tests;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import io.github.some_example_name.engine.entity.GameEntity;
+import io.github.some_example_name.engine.io.IOManager;
+import io.github.some_example_name.engine.io.RuntimeAtlas;
 
 public class TestEntity extends GameEntity implements Disposable {
-    private Texture texture;
     private TextureRegion region;
     private Vector2 position;
 
     public TestEntity(float x, float y) {
         position = new Vector2(x, y);
-
-        // CHANGE 1: We create a 50x50 pixel image directly (instead of 1x1)
-        // This ensures the red square is visible even if scaling fails.
-        Pixmap pixmap = new Pixmap(50, 50, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.RED);
-        pixmap.fill();
-
-        texture = new Texture(pixmap);
-        region = new TextureRegion(texture);
-        pixmap.dispose();
     }
 
     @Override
     public TextureRegion getTexture() {
+        // CHANGE 1: We use a 50x50 pixel image directly (instead of 1x1)
+        // This ensures the red square is visible even if scaling fails.
+        // The square is packed once into the shared atlas, so every
+        // TestEntity draws from the same texture page. It is looked up on
+        // first draw: there is no atlas before IOManager.init() or headless.
+        if (region == null) {
+            RuntimeAtlas atlas = IOManager.getInstance().getOutputManager().getAtlas();
+            if (atlas != null) {
+                region = atlas.getSolid("test_red_square", 50, 50, Color.RED);
+            }
+        }
         return region;
     }
 
@@ -50,7 +50,7 @@ public class TestEntity extends GameEntity implements Disposable {
 
     @Override
     public void dispose() {
-        if (texture != null)
-            texture.dispose();
+        // Nothing to free - the atlas owns the texture
+        region = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.some_example_name.engine.collision.Collidable;
+import io.github.some_example_name.engine.entity.GameEntity;
+import io.github.some_example_name.engine.entity.NPCEntity;
+import io.github.some_example_name.engine.movement.AiAgent;
+import io.github.some_example_name.engine.scene.AbstractScene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Representative simulation load with nothing to draw.
+ *
+ * Wandering agents that flee their nearest neighbour (AI scheduler +
+ * spatial index), bump into each other (collision manager) and move with
+ * the movement helpers, plus plain NPCEntity drifters in the entity manager.
+ * Seeded, so repeated runs do the same work.
+ */
+public class CrowdScene extends AbstractScene {
+
+    private static final float WORLD_SIZE = 4000f;
+    private static final float AGENT_SIZE = 16f;
+    private static final float SPEED = 80f;
+    private static final float DANGER_RANGE = 40f;
+
+    private final int agentCount;
+    private final long seed;
+    private final List<CrowdAgent> agents;
+
+    public CrowdScene(int agentCount, long seed) {
+        this.agentCount = agentCount;
+        this.seed = seed;
+        this.agents = new ArrayList<>(agentCount);
+    }
+
+    @Override
+    protected void onInitialise() {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < agentCount; i++) {
+            float x = (float) (random.nextDouble() * WORLD_SIZE);
+            float y = (float) (random.nextDouble() * WORLD_SIZE);
+
+            CrowdAgent agent = new CrowdAgent(x, y, random.split());
+            agents.add(agent);
+            registerCollidable(agent);
+            aiScheduler.add(agent);
+
+            NPCEntity drifter = new NPCEntity("Drifter", x, y);
+            drifter.setVelocity((float) (random.nextDouble() * 100 - 50),
+                                (float) (random.nextDouble() * 100 - 50));
+            createEntity(drifter);
+        }
+    }
+
+    @Override
+    protected void onUpdate(float delta) {
+        movementManager.rebuildSpatialIndex(agents);
+        for (int i = 0; i < agents.size(); i++) {
+            CrowdAgent agent = agents.get(i);
+            movementManager.wanderRandomly(agent, SPEED, agent.direction, agent.directionTimer,
+                                           1.5f, agent.random, delta);
+            agent.wrap();
+        }
+    }
+
+    @Override
+    public void render(float delta) {
+        // Headless - nothing to draw
+    }
+
+    /**
+     * @return Collisions reported across all agents so far
+     */
+    public long getCollisionCount() {
+        long total = 0;
+        for (int i = 0; i < agents.size(); i++) {
+            total += agents.get(i).collisions;
+        }
+        return total;
+    }
+
+    private final class CrowdAgent extends GameEntity implements Collidable, AiAgent {
+
+        private final Vector2 position;
+        private final Rectangle bounds;
+        private final Vector2 direction;
+        private final float[] directionTimer;
+        private final SplittableRandom random;
+        private long collisions;
+
+        CrowdAgent(float x, float y, SplittableRandom random) {
+            this.position = new Vector2(x, y);
+            this.bounds = new Rectangle(x, y, AGENT_SIZE, AGENT_SIZE);
+            this.direction = new Vector2();
+            this.directionTimer = new float[1];
+            this.random = random;
+        }
+
+        @Override
+        public void think(float elapsed) {
+            movementManager.fleeNearestIfTooClose(this, SPEED, DANGER_RANGE, elapsed);
+        }
+
+        void wrap() {
+            if (position.x < 0f) position.x += WORLD_SIZE;
+            else if (position.x >= WORLD_SIZE) position.x -= WORLD_SIZE;
+            if (position.y < 0f) position.y += WORLD_SIZE;
+            else if (position.y >= WORLD_SIZE) position.y -= WORLD_SIZE;
+        }
+
+        @Override
+        public Rectangle getBounds() {
+            return bounds.setPosition(position.x, position.y);
+        }
+
+        @Override
+        public void onCollision(Collidable other) {
+            collisions++;
+        }
+
+        @Override
+        public TextureRegion getTexture() {
+            return null;
+        }
+
+        @Override
+        public Vector2 getPosition() {
+            return position;
+        }
+
+        @Override
+        public float getWidth() {
+            return AGENT_SIZE;
+        }
+
+        @Override
+        public float getHeight() {
+            return AGENT_SIZE;
+        }
+    }
+}
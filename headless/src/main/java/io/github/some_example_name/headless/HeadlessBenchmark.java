@@ -0,0 +1,84 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+import io.github.some_example_name.engine.io.IOManager;
+import io.github.some_example_name.engine.scene.SceneManager;
+
+/**
+ * Ticks a CrowdScene at an uncapped rate and reports throughput.
+ *
+ * Every tick simulates the same fixed step regardless of how long it took,
+ * so results only depend on the machine, not on frame pacing.
+ */
+public class HeadlessBenchmark extends ApplicationAdapter {
+
+    private static final float STEP = 1f / 60f;
+    private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final int agentCount;
+    private final float runSeconds;
+    private CrowdScene scene;
+
+    private long startNanos;
+    private long reportNanos;
+    private long ticks;
+    private long ticksAtReport;
+
+    public HeadlessBenchmark(int agentCount, float runSeconds) {
+        if (agentCount < 0) {
+            throw new IllegalArgumentException("Agent count must be >= 0.");
+        }
+        this.agentCount = agentCount;
+        this.runSeconds = runSeconds;
+    }
+
+    @Override
+    public void create() {
+        IOManager.getInstance().initHeadless();
+
+        SceneManager scenes = SceneManager.getInstance();
+        scene = new CrowdScene(agentCount, 42L);
+        scenes.load("crowd", scene);
+        scenes.setActive("crowd");
+
+        System.out.println("[HEADLESS] " + agentCount + " agents, step " + STEP + " s, "
+                + (runSeconds > 0f ? runSeconds + " s run" : "running until stopped"));
+
+        startNanos = System.nanoTime();
+        reportNanos = startNanos;
+    }
+
+    @Override
+    public void render() {
+        SceneManager.getInstance().runFrame(STEP);
+        ticks++;
+
+        long now = System.nanoTime();
+        if (now - reportNanos >= REPORT_INTERVAL_NANOS) {
+            double seconds = (now - reportNanos) / 1e9;
+            long done = ticks - ticksAtReport;
+            System.out.printf("[HEADLESS] %.0f ticks/s  (%.3f ms/tick)%n",
+                    done / seconds, seconds * 1000.0 / done);
+            reportNanos = now;
+            ticksAtReport = ticks;
+        }
+
+        if (runSeconds > 0f && now - startNanos >= (long) (runSeconds * 1e9)) {
+            Gdx.app.exit();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        if (ticks > 0) {
+            System.out.printf("[HEADLESS] Total: %d ticks in %.2f s = %.0f ticks/s (%.1fx real time)%n",
+                    ticks, seconds, ticks / seconds, ticks * STEP / seconds);
+            System.out.println("[HEADLESS] Collisions reported: " + scene.getCollisionCount());
+        }
+        SceneManager.getInstance().dispose();
+        IOManager.getInstance().dispose();
+    }
+}
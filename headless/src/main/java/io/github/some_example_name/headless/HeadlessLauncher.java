@@ -0,0 +1,41 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches the engine without a window or GL context.
+ *
+ * Runs the simulation (scenes, entities, AI, movement, collision) as fast as
+ * it will go and prints ticks per second. Usage:
+ *
+ *   HeadlessLauncher [agents] [seconds]
+ *   HeadlessLauncher --replay file
+ *
+ * Defaults to 1000 agents for 10 seconds; seconds <= 0 runs until killed.
+ * With --replay, plays an input recording (made with -Dinput.record on the
+ * desktop launcher) through the game instead, and prints frame times.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--replay")) {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("--replay needs a recording file");
+            }
+            new HeadlessApplication(new HeadlessReplay(args[1]), configuration());
+            return;
+        }
+
+        int agents = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        float seconds = args.length > 1 ? Float.parseFloat(args[1]) : 10f;
+
+        new HeadlessApplication(new HeadlessBenchmark(agents, seconds), configuration());
+    }
+
+    private static HeadlessApplicationConfiguration configuration() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // 0 = call render() back to back, no frame limiting
+        configuration.updatesPerSecond = 0;
+        return configuration;
+    }
+}
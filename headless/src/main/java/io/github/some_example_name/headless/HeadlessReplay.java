@@ -0,0 +1,77 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+import io.github.some_example_name.GameMaster;
+import io.github.some_example_name.engine.io.IOManager;
+
+import java.util.Arrays;
+
+/**
+ * Plays an input recording through the game without a window and reports
+ * the frame-time distribution.
+ *
+ * Every frame simulates with its recorded delta and runs back to back, so
+ * the same recording does the same work on every build; only the measured
+ * frame times differ. Exits when the recording runs out.
+ */
+public class HeadlessReplay extends ApplicationAdapter {
+
+    private final GameMaster game;
+    private final String replayPath;
+
+    private long[] frameNanos;
+    private int frames;
+
+    public HeadlessReplay(String replayPath) {
+        this.game = new GameMaster(null, replayPath);
+        this.replayPath = replayPath;
+        this.frameNanos = new long[4096];
+    }
+
+    @Override
+    public void create() {
+        IOManager.getInstance().initHeadless();
+        game.create();
+    }
+
+    @Override
+    public void render() {
+        long start = System.nanoTime();
+        game.render();
+        long elapsed = System.nanoTime() - start;
+
+        if (!IOManager.getInstance().getDynamicInput().isReplaying()) {
+            // This frame found the recording finished and ran on live input
+            Gdx.app.exit();
+            return;
+        }
+        if (frames == frameNanos.length) {
+            frameNanos = Arrays.copyOf(frameNanos, frames * 2);
+        }
+        frameNanos[frames++] = elapsed;
+    }
+
+    @Override
+    public void dispose() {
+        if (frames > 0) {
+            long[] sorted = Arrays.copyOf(frameNanos, frames);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long nanos : sorted) {
+                total += nanos;
+            }
+            System.out.println("[REPLAY] " + replayPath + ": " + frames + " frames");
+            System.out.printf("[REPLAY] Frame time ms: mean %.3f  p50 %.3f  p95 %.3f  p99 %.3f  max %.3f%n",
+                    total / 1e6 / frames, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), sorted[frames - 1] / 1e6);
+        }
+        game.dispose();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.min(sorted.length - 1, Math.floor(fraction * sorted.length));
+        return sorted[index] / 1e6;
+    }
+}
@@ -5,7 +5,13 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import io.github.some_example_name.GameMaster;
 
-/** Launches the desktop (LWJGL3) application. */
+/**
+ * Launches the desktop (LWJGL3) application.
+ *
+ * Input sessions are chosen with system properties, which survive the JVM
+ * restart StartupHelper may do: -Dinput.record=file records this session's
+ * input, -Dinput.replay=file plays a recording back instead of live input.
+ */
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired())
@@ -14,7 +20,8 @@ public class Lwjgl3Launcher {
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new GameMaster(), getDefaultConfiguration());
+        GameMaster game = new GameMaster(System.getProperty("input.record"), System.getProperty("input.replay"));
+        return new Lwjgl3Application(game, getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {